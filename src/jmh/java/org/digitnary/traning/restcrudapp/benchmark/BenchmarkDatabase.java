@@ -0,0 +1,84 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.JpaHibernateApplication;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Starts the application against the embedded benchmark database and seeds it.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+final class BenchmarkDatabase {
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Starts the application with the {@code bench} profile.
+     *
+     * @return the running application context
+     */
+    static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(JpaHibernateApplication.class)
+                .profiles("bench")
+                .run();
+    }
+
+    /**
+     * Creates instructors, each with their detail, courses, reviews and enrolled students.
+     *
+     * @param dao the DAO to seed through
+     * @param instructors the number of instructors
+     * @param coursesPerInstructor the number of courses per instructor
+     * @param reviewsPerCourse the number of reviews per course
+     * @param studentsPerCourse the number of students enrolled in each course
+     * @return the created instructors, with their generated IDs
+     */
+    static List<Instructor> seed(InstructorDao dao, int instructors, int coursesPerInstructor,
+                                 int reviewsPerCourse, int studentsPerCourse) {
+        List<Instructor> created = new ArrayList<>(instructors);
+        for (int i = 0; i < instructors; i++) {
+            created.add(createInstructor(dao, "seed" + i, coursesPerInstructor, reviewsPerCourse, studentsPerCourse));
+        }
+        return created;
+    }
+
+    /**
+     * Creates one instructor with the given graph below it.
+     *
+     * @param dao the DAO to create through
+     * @param key a unique key used to build unique emails
+     * @param courses the number of courses
+     * @param reviewsPerCourse the number of reviews per course
+     * @param studentsPerCourse the number of students enrolled in each course
+     * @return the created instructor
+     */
+    static Instructor createInstructor(InstructorDao dao, String key, int courses,
+                                       int reviewsPerCourse, int studentsPerCourse) {
+        Instructor instructor = new Instructor("First " + key, "Last " + key, key + "@bench.example",
+                new InstructorDetail("www.youtube.com/" + key, "Benchmarking"));
+        for (int c = 0; c < courses; c++) {
+            Course course = new Course("Course " + key + "-" + c);
+            for (int r = 0; r < reviewsPerCourse; r++) {
+                course.addReview(new Review("Review " + r));
+            }
+            for (int s = 0; s < studentsPerCourse; s++) {
+                course.addStudent(new Student("Student", key + "-" + c + "-" + s, key + "-" + c + "-" + s + "@bench.example"));
+            }
+            instructor.addCourse(course);
+        }
+        dao.create(instructor);
+        return instructor;
+    }
+}
@@ -0,0 +1,67 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.JpaHibernateApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Starts the application against PostgreSQL, for the benchmarks that cannot run on the embedded database.
+ * Uses the database given by {@code -Dbench.postgres.url} (with {@code bench.postgres.username} and
+ * {@code bench.postgres.password}), or a throwaway Testcontainers PostgreSQL 16 when none is given.
+ * The schema is created, with the {@code db/} search and enrollment scripts, when the application starts.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+final class BenchmarkPostgres implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> container;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkPostgres(PostgreSQLContainer<?> container, String url, String username, String password) {
+        this.container = container;
+        // command-line arguments, so they win over the embedded database of the bench profile
+        this.context = new SpringApplicationBuilder(JpaHibernateApplication.class)
+                .profiles("bench", "bench-postgres")
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + username,
+                        "--spring.datasource.password=" + password);
+    }
+
+    /**
+     * Starts the application, and a container first if no database is configured.
+     *
+     * @return the running application, to be closed when done
+     */
+    static BenchmarkPostgres start() {
+        String url = System.getProperty("bench.postgres.url");
+        if (url != null) {
+            return new BenchmarkPostgres(null, url, System.getProperty("bench.postgres.username", "postgres"),
+                    System.getProperty("bench.postgres.password", ""));
+        }
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        try {
+            return new BenchmarkPostgres(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        } catch (RuntimeException e) {
+            container.stop();
+            throw e;
+        }
+    }
+
+    /**
+     * @return the running application context
+     */
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.loader.CopyLoader;
+import org.digitnary.traning.restcrudapp.loader.LoadResult;
+import org.digitnary.traning.restcrudapp.loader.LoadTarget;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link CopyLoader} throughput in rows per minute for every load target on PostgreSQL.
+ * The database is first seeded with half the volume, loaded the same way but not reported, so the
+ * measured loads validate foreign keys and the enrollment key against tables that already hold data,
+ * and maintain the search vectors and indexes of {@code db/007}.
+ * <p>
+ * The volume defaults to 1M students, reviews and enrollments over 10k courses, set with
+ * {@code -Dbench.rows}; see {@link BenchmarkPostgres} for choosing the database.
+ * Run with {@code mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.digitnary.traning.restcrudapp.benchmark.CopyLoaderLoadTest}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public final class CopyLoaderLoadTest {
+
+    private static final int ROWS = Integer.getInteger("bench.rows", 1_000_000);
+
+    private CopyLoaderLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Files.createTempDirectory("copy-loader-bench");
+        try (BenchmarkPostgres postgres = BenchmarkPostgres.start()) {
+            CopyLoader loader = postgres.context().getBean(CopyLoader.class);
+            JdbcTemplate jdbc = postgres.context().getBean(JdbcTemplate.class);
+
+            load(loader, jdbc, dir, "seed", ROWS / 2, false);
+            System.out.printf("%-12s %10s %10s %10s %14s%n", "target", "inserted", "rejected", "seconds", "rows/min");
+            load(loader, jdbc, dir, "bench", ROWS, true);
+        } finally {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    /**
+     * Loads students, courses, reviews of those courses and enrollments of those students, in that order.
+     */
+    private static void load(CopyLoader loader, JdbcTemplate jdbc, Path dir, String key, int rows, boolean report)
+            throws IOException {
+        Random random = new Random(rows);
+        int courses = Math.max(1, rows / 100);
+
+        Path students = write(dir.resolve(key + "-students.csv"), "firstName,lastName,email", rows,
+                i -> "First" + i + ",Last" + i + "," + key + i + "@copy.bench.example");
+        print(loader.load(LoadTarget.STUDENTS, students), report);
+        Path titles = write(dir.resolve(key + "-courses.csv"), "title", courses, i -> "Course " + key + " " + i);
+        print(loader.load(LoadTarget.COURSES, titles), report);
+
+        List<Integer> courseIds = jdbc.queryForList("SELECT id FROM courses", Integer.class);
+        List<Integer> studentIds = jdbc.queryForList("SELECT id FROM students", Integer.class);
+        Path reviews = write(dir.resolve(key + "-reviews.csv"), "comment,courseId", rows,
+                i -> "\"Review " + i + ", loaded\"," + courseIds.get(random.nextInt(courseIds.size())));
+        print(loader.load(LoadTarget.REVIEWS, reviews), report);
+        Path enrollments = write(dir.resolve(key + "-enrollments.csv"), "courseId,studentId", rows,
+                i -> courseIds.get(random.nextInt(courseIds.size())) + "," + studentIds.get(random.nextInt(studentIds.size())));
+        print(loader.load(LoadTarget.ENROLLMENTS, enrollments), report);
+    }
+
+    private static Path write(Path file, String header, int rows, IntFunction<String> row)
+            throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write(header);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                writer.write(row.apply(i));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    private static void print(LoadResult result, boolean report) {
+        if (report) {
+            System.out.printf("%-12s %10d %10d %10.1f %14.0f%n", result.target(), result.inserted(), result.rejected(),
+                    result.elapsed().toMillis() / 1e3, result.rowsPerMinute());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Time to flush a persistence context holding 10k managed students, of which only a few were modified.
+ * Without bytecode enhancement every flush compares every property of every entity with its snapshot;
+ * with inline dirty tracking only the modified entities are looked at.
+ * Compare a normal build with one built with {@code -DskipEnhancement}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FlushBenchmark {
+
+    @Param({"10000"})
+    int managed;
+
+    @Param({"0", "10", "1000"})
+    int modified;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager em;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkDatabase.start();
+        context.getBean(InstructorDao.class).bulkImport(IntStream.range(0, managed)
+                .mapToObj(i -> new Student("First" + i, "Last" + i, "flush" + i + "@bench.example")));
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void load() {
+        em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        List<Student> students = em.createQuery("SELECT s FROM Student s ORDER BY s.id", Student.class)
+                .setMaxResults(managed)
+                .getResultList();
+        round++;
+        for (int i = 0; i < modified; i++) {
+            students.get(i).setLastName("Modified " + round);
+        }
+    }
+
+    @Benchmark
+    public void flush() {
+        em.flush();
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() {
+        em.getTransaction().rollback();
+        em.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
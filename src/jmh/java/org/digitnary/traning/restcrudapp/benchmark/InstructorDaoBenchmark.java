@@ -0,0 +1,125 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput and latency percentiles of the main {@link InstructorDao} operations.
+ * Run with {@code mvn -P benchmarks test-compile exec:exec}; the gc profiler reports allocation rates.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class InstructorDaoBenchmark {
+
+    @Param({"100", "1000"})
+    int instructors;
+
+    @Param({"5"})
+    int coursesPerInstructor;
+
+    @Param({"10", "100"})
+    int reviewsPerCourse;
+
+    @Param({"20"})
+    int studentsPerCourse;
+
+    private ConfigurableApplicationContext context;
+    private InstructorDao dao;
+    private int[] instructorIds;
+    private int[] courseIds;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkDatabase.start();
+        dao = context.getBean(InstructorDao.class);
+        List<Instructor> seeded = BenchmarkDatabase.seed(dao, instructors, coursesPerInstructor,
+                reviewsPerCourse, studentsPerCourse);
+        instructorIds = seeded.stream().mapToInt(Instructor::getId).toArray();
+        courseIds = seeded.stream().flatMap(i -> i.getCourses().stream()).mapToInt(Course::getId).toArray();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Instructor findById() {
+        return dao.findById(randomOf(instructorIds));
+    }
+
+    @Benchmark
+    public Instructor findInstructorByJoinFetch() {
+        return dao.findInstructorByJoinFetch(randomOf(instructorIds));
+    }
+
+    @Benchmark
+    public Course findCourseWithItsStudentById() {
+        return dao.findCourseWithItsStudentById(randomOf(courseIds));
+    }
+
+    @Benchmark
+    public Course saveCourse() {
+        Course course = new Course("Saved " + sequence.incrementAndGet());
+        for (int r = 0; r < reviewsPerCourse; r++) {
+            course.addReview(new Review("Review " + r));
+        }
+        dao.saveCourse(course);
+        return course;
+    }
+
+    @Benchmark
+    public void delete(DeleteTarget target) {
+        dao.delete(target.instructorId);
+    }
+
+    /**
+     * A fresh instructor for every {@code delete} invocation.
+     */
+    @State(Scope.Thread)
+    public static class DeleteTarget {
+
+        private static final AtomicInteger KEYS = new AtomicInteger();
+
+        int instructorId;
+
+        @Setup(Level.Invocation)
+        public void create(InstructorDaoBenchmark benchmark) {
+            instructorId = BenchmarkDatabase.createInstructor(benchmark.dao, "delete" + KEYS.incrementAndGet(),
+                    benchmark.coursesPerInstructor, 0, 0).getId();
+        }
+    }
+
+    private static int randomOf(int[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
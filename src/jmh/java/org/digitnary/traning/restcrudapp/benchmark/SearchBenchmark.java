@@ -0,0 +1,115 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.dao.RankedPage;
+import org.digitnary.traning.restcrudapp.dao.SearchDao;
+import org.digitnary.traning.restcrudapp.dto.ReviewHit;
+import org.digitnary.traning.restcrudapp.loader.CopyLoader;
+import org.digitnary.traning.restcrudapp.loader.LoadTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of ranked review search over 1M reviews on PostgreSQL, against the target of a p99 below 50 ms
+ * for the first page. Sample mode reports the percentiles; read the {@code p0.99} line of each query.
+ * <p>
+ * Every review mentions "course"; "practical" is in one in 20, "quokka" in one in 10,000, and the phrase
+ * covers the frequent and the medium term together. Frequent terms are the expensive case, since every
+ * match is ranked before the first page is known. Reviews are loaded with {@link CopyLoader}, so the
+ * search vectors and GIN indexes are the ones {@code db/007} maintains.
+ * The volume can be changed with {@code -Dbench.rows}; see {@link BenchmarkPostgres} for choosing the database.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final int REVIEWS = Integer.getInteger("bench.rows", 1_000_000);
+    private static final int COURSES = Math.max(1, REVIEWS / 100);
+
+    @Param({"quokka", "practical", "course", "\"practical course\""})
+    String query;
+
+    private BenchmarkPostgres postgres;
+    private SearchDao searchDao;
+    private List<Integer> courseIds;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void seed() throws IOException {
+        postgres = BenchmarkPostgres.start();
+        searchDao = postgres.context().getBean(SearchDao.class);
+        CopyLoader loader = postgres.context().getBean(CopyLoader.class);
+        JdbcTemplate jdbc = postgres.context().getBean(JdbcTemplate.class);
+
+        Path courses = Files.createTempFile("search-courses", ".csv");
+        Path reviews = Files.createTempFile("search-reviews", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(courses)) {
+                writer.write("title\n");
+                for (int i = 0; i < COURSES; i++) {
+                    writer.write("Searchable course " + i + "\n");
+                }
+            }
+            loader.load(LoadTarget.COURSES, courses);
+            courseIds = jdbc.queryForList("SELECT id FROM courses", Integer.class);
+
+            Random seeding = new Random(42);
+            try (BufferedWriter writer = Files.newBufferedWriter(reviews)) {
+                writer.write("comment,courseId\n");
+                for (int i = 0; i < REVIEWS; i++) {
+                    String comment = "Review " + i + " of this course"
+                            + (i % 20 == 0 ? ", very practical" : "")
+                            + (i % 10_000 == 0 ? ", mentions a quokka" : "");
+                    writer.write("\"" + comment + "\"," + courseIds.get(seeding.nextInt(courseIds.size())) + "\n");
+                }
+            }
+            loader.load(LoadTarget.REVIEWS, reviews);
+        } finally {
+            Files.delete(courses);
+            Files.delete(reviews);
+        }
+        jdbc.execute("VACUUM ANALYZE course_reviews");
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public RankedPage<ReviewHit> searchAllReviews() {
+        return searchDao.searchReviews(query, null, 0, 20);
+    }
+
+    @Benchmark
+    public RankedPage<ReviewHit> searchOneCourse() {
+        return searchDao.searchReviews(query, courseIds.get(random.nextInt(courseIds.size())), 0, 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        postgres.close();
+    }
+}
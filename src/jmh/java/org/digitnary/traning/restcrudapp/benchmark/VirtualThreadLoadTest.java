@@ -0,0 +1,119 @@
+package org.digitnary.traning.restcrudapp.benchmark;
+
+import org.digitnary.traning.restcrudapp.JpaHibernateApplication;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Compares request handling on platform and virtual threads at 1k to 10k concurrent HTTP clients.
+ * The application is started twice, with {@code spring.threads.virtual.enabled} false (Tomcat's pool of
+ * 200 threads) and true (one virtual thread per request, with {@code DaoConcurrencyLimiter} in front of
+ * the pool). Each client issues a fixed number of {@code GET /api/instructors/{id}}; throughput,
+ * latency percentiles and error responses (e.g. 503 when the limiter times out) are printed per run.
+ * <p>
+ * Clients run on virtual threads in both cases, so only the server side differs.
+ * Run with {@code mvn -P benchmarks test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.digitnary.traning.restcrudapp.benchmark.VirtualThreadLoadTest}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public final class VirtualThreadLoadTest {
+
+    private static final int[] CONCURRENCY = {1_000, 2_500, 5_000, 10_000};
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    private VirtualThreadLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.printf("%-9s %8s %12s %10s %10s %8s%n", "server", "clients", "requests/s", "p50 ms", "p99 ms", "errors");
+        for (boolean virtual : new boolean[]{false, true}) {
+            String label = virtual ? "virtual" : "platform";
+            // command-line arguments, so they win over the non-web bench profile
+            String[] server = {"--spring.main.web-application-type=servlet",
+                    "--server.port=0",
+                    // every client keeps its connection open, the thread model is what is compared
+                    "--server.tomcat.max-connections=" + (CONCURRENCY[CONCURRENCY.length - 1] + 1_000),
+                    "--spring.threads.virtual.enabled=" + virtual,
+                    "--spring.datasource.url=jdbc:h2:mem:bench-" + label + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1"};
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JpaHibernateApplication.class)
+                    .profiles("bench")
+                    .run(Stream.concat(Arrays.stream(server), Arrays.stream(args)).toArray(String[]::new));
+                 HttpClient http = HttpClient.newBuilder()
+                         .executor(Executors.newVirtualThreadPerTaskExecutor())
+                         .connectTimeout(Duration.ofSeconds(30))
+                         .build()) {
+                InstructorDao dao = context.getBean(InstructorDao.class);
+                int[] ids = BenchmarkDatabase.seed(dao, 1_000, 3, 5, 5).stream().mapToInt(Instructor::getId).toArray();
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI base = URI.create("http://localhost:" + port + "/api/instructors/");
+                for (int clients : CONCURRENCY) {
+                    run(label, http, base, clients, ids);
+                }
+            }
+        }
+    }
+
+    private static void run(String label, HttpClient http, URI base, int clients, int[] ids) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>(clients);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // the last slot counts the responses that were not 200
+                    long[] latencies = new long[REQUESTS_PER_CLIENT + 1];
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                base.resolve(String.valueOf(ids[ThreadLocalRandom.current().nextInt(ids.length)]))).build();
+                        long began = System.nanoTime();
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[r] = System.nanoTime() - began;
+                        if (response.statusCode() != 200) {
+                            latencies[REQUESTS_PER_CLIENT]++;
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+            long began = System.nanoTime();
+            start.countDown();
+            long[] all = new long[clients * REQUESTS_PER_CLIENT];
+            long errors = 0;
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                System.arraycopy(latencies, 0, all, offset, REQUESTS_PER_CLIENT);
+                errors += latencies[REQUESTS_PER_CLIENT];
+                offset += REQUESTS_PER_CLIENT;
+            }
+            double seconds = (System.nanoTime() - began) / 1e9;
+            Arrays.sort(all);
+            System.out.printf("%-9s %8d %12.0f %10.2f %10.2f %8d%n", label, clients, all.length / seconds,
+                    percentile(all, 0.50), percentile(all, 0.99), errors);
+        }
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+}
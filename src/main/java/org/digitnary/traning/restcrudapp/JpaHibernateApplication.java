@@ -1,5 +1,6 @@
 package org.digitnary.traning.restcrudapp;
 
+import org.digitnary.traning.restcrudapp.dao.FetchPlan;
 import org.digitnary.traning.restcrudapp.dao.InstructorDao;
 import org.digitnary.traning.restcrudapp.entity.*;
 import org.slf4j.Logger;
@@ -8,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 
 /**
@@ -42,11 +44,13 @@ public class JpaHibernateApplication {
 
     /**
      * Bean definition for {@link CommandLineRunner} to execute CRUD operations on application startup.
+     * Can be switched off with {@code app.runner.enabled=false}.
      *
      * @param dao the {@link InstructorDao} used for data access operations
      * @return a {@link CommandLineRunner} instance
      */
     @Bean
+    @ConditionalOnProperty(name = "app.runner.enabled", havingValue = "true", matchIfMissing = true)
     public CommandLineRunner commandLineRunner(InstructorDao dao) {
         return runner -> {
             // Uncomment the following lines to perform CRUD operations
@@ -74,6 +78,7 @@ public class JpaHibernateApplication {
             // findCourseStudentshipsById(dao);
             // findStudentWithHisCourses(dao);
             // addCourseToStudent(dao);
+            // enrollStudent(dao);
             deleteStudentById(dao);
         };
     }
@@ -100,6 +105,16 @@ public class JpaHibernateApplication {
         dao.updateStudent(student);
     }
 
+    /**
+     * Enrolls an existing student in an existing course without loading either collection.
+     *
+     * @param dao the {@link InstructorDao} used for data access operations
+     */
+    private void enrollStudent(InstructorDao dao) {
+        boolean enrolled = dao.enroll(1, 2);
+        logger.warn("Enrolled{} Students{}", enrolled, dao.countStudents(2));
+    }
+
     /**
      * Finds a student with their courses by ID and logs the student and their courses.
      *
@@ -210,13 +225,13 @@ public class JpaHibernateApplication {
     }
 
     /**
-     * Retrieves an instructor by ID from the database.
+     * Retrieves an instructor and their courses by ID from the database.
      *
      * @param dao the {@link InstructorDao} used for data access operations
      * @return the {@link Instructor} with the specified ID
      */
     private Instructor getById(InstructorDao dao) {
-        return dao.findById(1);
+        return dao.findById(1, FetchPlan.WITH_COURSES);
     }
 
     /**
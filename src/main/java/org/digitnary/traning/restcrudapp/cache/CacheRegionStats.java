@@ -0,0 +1,26 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+/**
+ * Point-in-time counters of a second-level cache region.
+ *
+ * @param region    the region name
+ * @param hits      lookups answered from the region
+ * @param misses    lookups that had to go to the database
+ * @param puts      entries written to the region
+ * @param evictions explicit evictions requested by DAO write methods
+ * @param size      entries currently held in memory, or -1 if the provider does not report it
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CacheRegionStats(String region, long hits, long misses, long puts, long evictions, long size) {
+
+    /**
+     * Gets the share of lookups answered from the region.
+     *
+     * @return the hit ratio between 0 and 1, or 0 if the region was never read
+     */
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
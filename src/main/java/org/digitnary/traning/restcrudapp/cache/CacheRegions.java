@@ -0,0 +1,189 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Names, evicts and reports on the second-level cache regions configured in {@code ehcache.xml}.
+ * <p>
+ * Evictions requested inside a transaction are deferred until it commits, so a concurrent reader
+ * cannot put the old state back into the region before the new one is visible.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class CacheRegions {
+
+    public static final String INSTRUCTOR = "instructor";
+    public static final String INSTRUCTOR_DETAIL = "instructor-detail";
+    public static final String COURSE = "course";
+    public static final String INSTRUCTOR_COURSES = "instructor-courses";
+    public static final String INSTRUCTOR_LOOKUPS = "instructor-lookups";
+    public static final String INSTRUCTOR_EMAIL = "instructor-email";
+    public static final String STUDENT = "student";
+    public static final String STUDENT_EMAIL = "student-email";
+
+    private static final List<String> REGIONS = List.of(INSTRUCTOR, INSTRUCTOR_DETAIL, COURSE, INSTRUCTOR_COURSES,
+            INSTRUCTOR_EMAIL, STUDENT, STUDENT_EMAIL);
+    private static final String COURSES_ROLE = Instructor.class.getName() + ".courses";
+
+    private final SessionFactory sessionFactory;
+    private final Map<String, LongAdder> evictions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CacheRegions(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    /**
+     * Evicts an instructor and its course collection.
+     *
+     * @param id the ID of the instructor
+     */
+    public void evictInstructor(int id) {
+        afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(Instructor.class, id);
+            cache.evictCollectionData(COURSES_ROLE, id);
+            count(INSTRUCTOR);
+            count(INSTRUCTOR_COURSES);
+        });
+    }
+
+    /**
+     * Evicts an instructor detail.
+     *
+     * @param id the ID of the instructor detail
+     */
+    public void evictDetail(int id) {
+        afterCommit(() -> {
+            sessionFactory.getCache().evictEntityData(InstructorDetail.class, id);
+            count(INSTRUCTOR_DETAIL);
+        });
+    }
+
+    /**
+     * Evicts a course together with every cached instructor course collection,
+     * since the course may have moved between instructors.
+     *
+     * @param id the ID of the course
+     */
+    public void evictCourse(int id) {
+        afterCommit(() -> {
+            Cache cache = sessionFactory.getCache();
+            cache.evictEntityData(Course.class, id);
+            cache.evictCollectionData(COURSES_ROLE);
+            count(COURSE);
+            count(INSTRUCTOR_COURSES);
+        });
+    }
+
+    /**
+     * Evicts every cached instructor course collection.
+     */
+    public void evictInstructorCourses() {
+        afterCommit(() -> {
+            sessionFactory.getCache().evictCollectionData(COURSES_ROLE);
+            count(INSTRUCTOR_COURSES);
+        });
+    }
+
+    /**
+     * Gets the counters of every configured region. Hit, miss and put counts require
+     * {@code hibernate.generate_statistics=true}.
+     *
+     * @return the counters keyed by region name
+     */
+    public Map<String, CacheRegionStats> stats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, CacheRegionStats> stats = new LinkedHashMap<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            stats.put(region, new CacheRegionStats(region,
+                    regionStatistics.getHitCount(),
+                    regionStatistics.getMissCount(),
+                    regionStatistics.getPutCount(),
+                    evictions.computeIfAbsent(region, r -> new LongAdder()).sum(),
+                    regionStatistics.getElementCountInMemory()));
+        }
+        return stats;
+    }
+
+    /**
+     * Gets the counters of the query cache region holding the instructor lookup results.
+     * Those entries are invalidated by Hibernate itself whenever the Instructor or
+     * Instructor_Detail tables are written.
+     *
+     * @return the lookup region counters
+     */
+    public CacheRegionStats lookupStats() {
+        CacheRegionStatistics regionStatistics = sessionFactory.getStatistics().getQueryRegionStatistics(INSTRUCTOR_LOOKUPS);
+        if (regionStatistics == null) {
+            return new CacheRegionStats(INSTRUCTOR_LOOKUPS, 0, 0, 0, 0, -1);
+        }
+        return new CacheRegionStats(INSTRUCTOR_LOOKUPS,
+                regionStatistics.getHitCount(),
+                regionStatistics.getMissCount(),
+                regionStatistics.getPutCount(),
+                0,
+                regionStatistics.getElementCountInMemory());
+    }
+
+    /**
+     * Gets the execution and cache counters of every query that went through the query cache.
+     *
+     * @return the counters keyed by query string
+     */
+    public Map<String, QueryCacheStats> queryStats() {
+        Statistics statistics = sessionFactory.getStatistics();
+        Map<String, QueryCacheStats> stats = new LinkedHashMap<>();
+        for (String query : statistics.getQueries()) {
+            QueryStatistics queryStatistics = statistics.getQueryStatistics(query);
+            if (queryStatistics.getCacheHitCount() + queryStatistics.getCacheMissCount() == 0) {
+                continue;
+            }
+            stats.put(query, new QueryCacheStats(query,
+                    queryStatistics.getExecutionCount(),
+                    queryStatistics.getCacheHitCount(),
+                    queryStatistics.getCacheMissCount(),
+                    queryStatistics.getExecutionAvgTime(),
+                    queryStatistics.getExecutionMaxTime()));
+        }
+        return stats;
+    }
+
+    private void count(String region) {
+        evictions.computeIfAbsent(region, r -> new LongAdder()).increment();
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+/**
+ * Point-in-time counters of a query that goes through the query cache.
+ *
+ * @param query              the HQL/JPQL string
+ * @param executions         the number of times the query reached the database
+ * @param cacheHits          lookups answered from the query cache
+ * @param cacheMisses        lookups that had to run the query
+ * @param avgExecutionMillis the average database execution time
+ * @param maxExecutionMillis the slowest database execution time
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record QueryCacheStats(String query, long executions, long cacheHits, long cacheMisses,
+                              long avgExecutionMillis, long maxExecutionMillis) {
+
+    /**
+     * Gets the share of lookups answered from the query cache.
+     *
+     * @return the hit ratio between 0 and 1, or 0 if the query never ran
+     */
+    public double hitRatio() {
+        long lookups = cacheHits + cacheMisses;
+        return lookups == 0 ? 0 : (double) cacheHits / lookups;
+    }
+}
@@ -0,0 +1,71 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of concurrent {@code InstructorDao} calls to the connection pool size when
+ * request handling runs on virtual threads ({@code spring.threads.virtual.enabled=true}).
+ * <p>
+ * Thousands of virtual threads would otherwise all queue inside the pool; waiting on this fair
+ * semaphore instead parks them cheaply, before any transaction or connection is taken.
+ * Runs inside the metrics aspect, so {@code dao.calls} latency includes the wait.
+ * The limit defaults to the pool size and can be set with {@code app.dao.max-concurrency}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Aspect
+@Component
+@Order(1)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class DaoConcurrencyLimiter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    @Autowired
+    public DaoConcurrencyLimiter(Environment environment, HikariPoolSizer poolSizer) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class,
+                poolSizer.computePoolSize());
+        this.permits = new Semaphore(environment.getProperty("app.dao.max-concurrency", Integer.class, poolSize), true);
+        this.acquireTimeoutMillis = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30_000L);
+    }
+
+    /**
+     * Runs one DAO call once a permit is available.
+     *
+     * @param call the intercepted call
+     * @return the result of the call
+     * @throws Throwable whatever the DAO method throws
+     */
+    @Around("execution(* org.digitnary.traning.restcrudapp.dao.InstructorDao.*(..))")
+    public Object limit(ProceedingJoinPoint call) throws Throwable {
+        if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            throw new TransientDataAccessResourceException("No database capacity for InstructorDao."
+                    + call.getSignature().getName() + " within " + acquireTimeoutMillis + " ms");
+        }
+        try {
+            return call.proceed();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * @return the number of calls that could start right now
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
@@ -0,0 +1,86 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sizes every Hikari pool that has no explicit {@code maximum-pool-size} with the usual
+ * PostgreSQL rule of thumb: {@code database cores * connections-per-core + effective spindles}.
+ * <p>
+ * Settings, under {@code app.datasource.pool}: {@code auto-size} (default true),
+ * {@code database-cores}, {@code connections-per-core} (default 2) and {@code effective-spindles} (default 1).
+ * The rule is about the database server, whose cores this application cannot see, so pools are only
+ * sized when {@code database-cores} is set; otherwise Hikari's own default of
+ * {@value #HIKARI_DEFAULT_POOL_SIZE} connections applies. With several application instances,
+ * divide the result between them.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class HikariPoolSizer implements BeanPostProcessor, Ordered {
+
+    /**
+     * Hikari's {@code maximumPoolSize} when none is configured.
+     */
+    public static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    private static final String DATABASE_CORES = "app.datasource.pool.database-cores";
+
+    private final Logger logger = LoggerFactory.getLogger(HikariPoolSizer.class);
+    private final Environment environment;
+
+    @Autowired
+    public HikariPoolSizer(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource pool && isAutoSized(pool)) {
+            int size = computePoolSize();
+            pool.setMaximumPoolSize(size);
+            pool.setMinimumIdle(size);
+            logger.info("Sized connection pool {} to {} connections", pool.getPoolName(), size);
+        }
+        return bean;
+    }
+
+    /**
+     * Computes the pool size from the configured database cores and spindles.
+     *
+     * @return the maximum number of connections, Hikari's default if the database cores are not configured
+     */
+    public int computePoolSize() {
+        Integer cores = environment.getProperty(DATABASE_CORES, Integer.class);
+        if (cores == null) {
+            return HIKARI_DEFAULT_POOL_SIZE;
+        }
+        int perCore = environment.getProperty("app.datasource.pool.connections-per-core", Integer.class, 2);
+        int spindles = environment.getProperty("app.datasource.pool.effective-spindles", Integer.class, 1);
+        return Math.max(2, cores * perCore + spindles);
+    }
+
+    private boolean isAutoSized(HikariDataSource pool) {
+        if (!environment.getProperty("app.datasource.pool.auto-size", Boolean.class, true)) {
+            return false;
+        }
+        if (!environment.containsProperty(DATABASE_CORES)) {
+            logger.info("{} is not set, pool {} keeps its configured or default size", DATABASE_CORES, pool.getPoolName());
+            return false;
+        }
+        String prefix = "replica".equals(pool.getPoolName()) ? "app.datasource.replica.hikari" : "spring.datasource.hikari";
+        return !environment.containsProperty(prefix + ".maximum-pool-size");
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,27 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything else to the primary.
+ * Must sit behind a {@code LazyConnectionDataSourceProxy}, so the connection is chosen only once
+ * the transaction's read-only flag has been set.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The two targets a connection can be routed to.
+     */
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+    }
+}
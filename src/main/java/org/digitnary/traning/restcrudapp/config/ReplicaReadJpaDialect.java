@@ -0,0 +1,54 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Hibernate dialect used when reads are routed to a replica: read-only transactions run with
+ * {@link CacheMode#GET}, reading the second-level and query caches but never putting into them.
+ * <p>
+ * The replica lags behind the primary, so a row read from it may be older than the one
+ * {@code CacheRegions} just evicted; caching it would serve the old state until the region expires.
+ * The cache is filled only by transactions on the primary.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaReadData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadData replicaRead) {
+            // a pre-bound entity manager outlives the transaction
+            replicaRead.session().setCacheMode(replicaRead.previous());
+            super.cleanupTransaction(replicaRead.transactionData());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    /**
+     * The data of a read-only transaction, with the cache mode to restore when it ends.
+     */
+    private record ReplicaReadData(Object transactionData, Session session, CacheMode previous) {
+    }
+}
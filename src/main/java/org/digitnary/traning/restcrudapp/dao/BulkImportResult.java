@@ -0,0 +1,25 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk import run.
+ *
+ * @param rows    the number of root entities persisted
+ * @param chunks  the number of transactions the import was committed in
+ * @param elapsed the wall-clock time the import took
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record BulkImportResult(long rows, long chunks, Duration elapsed) {
+
+    /**
+     * Gets the import throughput.
+     *
+     * @return the number of rows persisted per second
+     */
+    public double rowsPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return rows * 1000.0 / millis;
+    }
+}
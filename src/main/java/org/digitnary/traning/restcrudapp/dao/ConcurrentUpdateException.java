@@ -0,0 +1,26 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Thrown by the {@code InstructorDao} update methods when the entity was changed by another
+ * transaction since it was loaded, i.e. its version no longer matches the database.
+ * <p>
+ * The update methods flush before returning, so the conflict is raised inside the DAO call.
+ * It extends Spring's {@link ObjectOptimisticLockingFailureException}, so a single handler also
+ * covers the rare conflicts only detected at commit.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class ConcurrentUpdateException extends ObjectOptimisticLockingFailureException {
+
+    /**
+     * @param entityClass the class of the conflicting entity
+     * @param id          the ID of the conflicting entity
+     * @param cause       the Hibernate optimistic lock failure
+     */
+    public ConcurrentUpdateException(Class<?> entityClass, Object id, Throwable cause) {
+        super(entityClass, id, entityClass.getSimpleName() + " " + id + " was updated concurrently", cause);
+    }
+}
@@ -0,0 +1,36 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+/**
+ * Describes which associations of an Instructor are loaded together with it.
+ * Each plan other than {@link #BASIC} maps to a named entity graph declared on the entity.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public enum FetchPlan {
+
+    /**
+     * Only the instructor and its detail; courses stay lazy.
+     */
+    BASIC(null),
+
+    /**
+     * The instructor, its detail and all of its courses, in a single query.
+     */
+    WITH_COURSES("Instructor.courses");
+
+    private final String entityGraph;
+
+    FetchPlan(String entityGraph) {
+        this.entityGraph = entityGraph;
+    }
+
+    /**
+     * Gets the name of the entity graph backing this plan.
+     *
+     * @return the entity graph name, or null for {@link #BASIC}
+     */
+    public String getEntityGraph() {
+        return entityGraph;
+    }
+}
@@ -1,11 +1,17 @@
 package org.digitnary.traning.restcrudapp.dao;
 
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.InstructorSummary;
 import org.digitnary.traning.restcrudapp.entity.Course;
 import org.digitnary.traning.restcrudapp.entity.Instructor;
 import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Review;
 import org.digitnary.traning.restcrudapp.entity.Student;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Data Access Object (DAO) interface for Instructor entity.
@@ -22,14 +28,20 @@ public interface InstructorDao {
     void create(Instructor instructor);
 
     /**
-     * Updates an existing Instructor.
+     * Updates an existing Instructor and their detail.
+     * The detail is part of the instructor, so the instructor's version is incremented
+     * even when only the detail changed.
      *
      * @param instructor the instructor to update
+     * @throws ConcurrentUpdateException if the instructor or detail was updated since it was loaded
      */
     void update(Instructor instructor);
 
     /**
-     * Deletes an Instructor by ID.
+     * Deletes an Instructor and their detail by ID, unlinking their courses.
+     * Runs a constant number of set-based statements no matter how many courses the instructor has.
+     * Pending changes are flushed first; in the caller's persistence context the instructor and detail
+     * become removed and loaded courses lose their instructor, while other managed instances are untouched.
      *
      * @param id the ID of the instructor to delete
      */
@@ -44,12 +56,38 @@ public interface InstructorDao {
     Instructor findById(int id);
 
     /**
-     * Finds all Instructors.
+     * Finds an Instructor by ID, loading the associations described by the fetch plan.
+     *
+     * @param id the ID of the instructor to find
+     * @param plan the associations to load with the instructor
+     * @return the found instructor, or null if no instructor found
+     */
+    Instructor findById(int id, FetchPlan plan);
+
+    /**
+     * Finds all Instructors with their details; courses are not loaded.
      *
      * @return a list of all instructors
      */
     List<Instructor> findAll();
 
+    /**
+     * Finds all Instructors, loading the associations described by the fetch plan.
+     *
+     * @param plan the associations to load with each instructor
+     * @return a list of all instructors
+     */
+    List<Instructor> findAll(FetchPlan plan);
+
+    /**
+     * Finds the next page of Instructors, ordered by ID, after the given cursor.
+     *
+     * @param lastId the ID of the last instructor already seen, 0 for the first page
+     * @param pageSize the maximum number of instructors to return
+     * @return the page of instructors with their details
+     */
+    KeysetPage<Instructor> findAllAfter(int lastId, int pageSize);
+
     /**
      * Finds an Instructor by their name.
      *
@@ -61,6 +99,7 @@ public interface InstructorDao {
 
     /**
      * Finds an Instructor by their email.
+     * The email is a natural id, so repeated lookups are answered from the natural-id cache.
      *
      * @param email the email of the instructor
      * @return the found instructor, or null if no instructor found
@@ -107,6 +146,15 @@ public interface InstructorDao {
      */
     Course findCourseById(int id);
 
+    /**
+     * Finds the next page of Courses, ordered by ID, after the given cursor.
+     *
+     * @param lastId the ID of the last course already seen, 0 for the first page
+     * @param pageSize the maximum number of courses to return
+     * @return the page of courses
+     */
+    KeysetPage<Course> findCoursesAfter(int lastId, int pageSize);
+
     /**
      * Finds a Course and its Instructor by Course ID.
      *
@@ -127,11 +175,31 @@ public interface InstructorDao {
      * Updates an existing Course.
      *
      * @param course the course to update
+     * @throws ConcurrentUpdateException if the course was updated since it was loaded
      */
     void updateCourse(Course course);
 
     /**
-     * Deletes a Course by ID.
+     * Loads the current state of an entity, applies a change to it and commits, in a transaction of its own.
+     * When another transaction commits an update of the same entity first, the entity is reloaded
+     * and the change applied again, up to {@code maxAttempts} times. The change must therefore be
+     * safe to repeat, e.g. "set the title" or "append a line to the hobby" rather than an absolute copy
+     * of a stale state.
+     *
+     * @param type the entity class, e.g. {@code Course.class}
+     * @param id the ID of the entity
+     * @param change the change to apply to the loaded entity
+     * @param maxAttempts the maximum number of attempts, at least 1
+     * @param <T> the entity type
+     * @return the updated entity, detached, or null if no entity found
+     * @throws ConcurrentUpdateException if every attempt conflicted
+     */
+    <T> T updateWithRetry(Class<T> type, int id, Consumer<? super T> change, int maxAttempts);
+
+    /**
+     * Deletes a Course, its reviews and its enrollments by ID with set-based statements.
+     * Pending changes are flushed first; in the caller's persistence context only the course and its
+     * reviews become removed.
      *
      * @param id the ID of the course to delete
      */
@@ -144,6 +212,14 @@ public interface InstructorDao {
      */
     void saveCourse(Course course);
 
+    /**
+     * Saves a new Course taught by an existing Instructor, without loading the instructor.
+     *
+     * @param course the course to save
+     * @param instructorId the ID of the instructor
+     */
+    void saveCourse(Course course, int instructorId);
+
     /**
      * Finds a Course and its Reviews by Course ID.
      *
@@ -159,6 +235,31 @@ public interface InstructorDao {
      */
     void saveStudent(Student student);
 
+    /**
+     * Finds a Student by ID.
+     *
+     * @param id the ID of the student to find
+     * @return the found student, or null if no student found
+     */
+    Student findStudentById(int id);
+
+    /**
+     * Finds the next page of Students, ordered by ID, after the given cursor.
+     *
+     * @param lastId the ID of the last student already seen, 0 for the first page
+     * @param pageSize the maximum number of students to return
+     * @return the page of students
+     */
+    KeysetPage<Student> findStudentsAfter(int lastId, int pageSize);
+
+    /**
+     * Finds a Student by their email, through the natural-id cache.
+     *
+     * @param email the email of the student
+     * @return the found student, or null if no student found
+     */
+    Student findStudentByEmail(String email);
+
     /**
      * Finds a Course with its Students by Course ID.
      *
@@ -175,17 +276,210 @@ public interface InstructorDao {
      */
     Student findStudentsAndHisCoursesById(int id);
 
+    /**
+     * Enrolls a Student in a Course with a single insert into the join table.
+     * Neither the course's students nor the student's courses are loaded, so the cost does not
+     * depend on the size of the course. A course or student loaded in the caller's transaction is
+     * refreshed if its enrollments are loaded. Concurrent enrollments of the same pair insert one row.
+     *
+     * @param studentId the ID of the student
+     * @param courseId the ID of the course
+     * @return true if the student was enrolled, false if already enrolled
+     */
+    boolean enroll(int studentId, int courseId);
+
+    /**
+     * Removes a Student from a Course with a single delete from the join table.
+     *
+     * @param studentId the ID of the student
+     * @param courseId the ID of the course
+     * @return true if the student was enrolled
+     * @see #enroll(int, int)
+     */
+    boolean unenroll(int studentId, int courseId);
+
+    /**
+     * Checks whether a Student is enrolled in a Course, with an index lookup on the join table.
+     *
+     * @param studentId the ID of the student
+     * @param courseId the ID of the course
+     * @return true if the student is enrolled in the course
+     */
+    boolean isEnrolled(int studentId, int courseId);
+
+    /**
+     * Counts the Students enrolled in a Course without loading them.
+     *
+     * @param courseId the ID of the course
+     * @return the number of enrolled students
+     */
+    long countStudents(int courseId);
+
+    /**
+     * Enrolls many Students in a Course with set-based inserts, {@code app.bulk.chunk-size} students per statement.
+     * Students that are already enrolled or do not exist are skipped.
+     *
+     * @param courseId the ID of the course
+     * @param studentIds the IDs of the students, duplicates allowed
+     * @return the number of students newly enrolled
+     * @see #enroll(int, int)
+     */
+    int enrollAll(int courseId, int[] studentIds);
+
     /**
      * Updates an existing Student.
      *
      * @param student the student to update
+     * @throws ConcurrentUpdateException if the student was updated since it was loaded
      */
     void updateStudent(Student student);
 
     /**
-     * Deletes a Student by ID.
+     * Deletes a Student and their enrollments by ID with set-based statements.
+     * Pending changes are flushed first; in the caller's persistence context only the student becomes removed.
      *
      * @param id the ID of the student to delete
      */
     void deleteStudentById(int id);
+
+    /**
+     * Persists a stream of new Students in chunked transactions.
+     * The persistence context is flushed and cleared after every chunk, so memory use does not
+     * depend on the size of the input. Chunks that were committed stay committed if a later one fails.
+     *
+     * @param students the students to save, consumed lazily
+     * @return the number of rows imported and the throughput
+     */
+    BulkImportResult bulkImport(Stream<Student> students);
+
+    /**
+     * Persists a stream of new Courses, together with their cascaded reviews and new students,
+     * in chunked transactions.
+     *
+     * @param courses the courses to save, consumed lazily
+     * @return the number of courses imported and the throughput
+     * @see #bulkImport(Stream)
+     */
+    BulkImportResult bulkImportCourses(Stream<Course> courses);
+
+    /**
+     * Deletes the Courses created before the cutoff, with their reviews and enrollments.
+     * Courses are purged in ID order, one chunk per transaction, children before parents,
+     * so locks are held briefly and memory use is bounded.
+     *
+     * @param cutoff courses created strictly before this instant are deleted
+     * @param resumeAfterId the {@link PurgeProgress#lastId()} of an interrupted run, 0 to start from the beginning
+     * @param progress called after every committed chunk and once when finished
+     * @return the final progress
+     */
+    PurgeProgress deleteCoursesOlderThan(Instant cutoff, int resumeAfterId, Consumer<PurgeProgress> progress);
+
+    /**
+     * Deletes the Students whose email matches the pattern, with their enrollments, in chunks.
+     *
+     * @param emailPattern a SQL LIKE pattern, e.g. {@code %@old-domain.com}
+     * @param resumeAfterId the {@link PurgeProgress#lastId()} of an interrupted run, 0 to start from the beginning
+     * @param progress called after every committed chunk and once when finished
+     * @return the final progress
+     * @see #deleteCoursesOlderThan(Instant, int, Consumer)
+     */
+    PurgeProgress deleteStudentsWhere(String emailPattern, int resumeAfterId, Consumer<PurgeProgress> progress);
+
+    /**
+     * Finds an Instructor summary with their course count, without loading any entity.
+     *
+     * @param id the ID of the instructor
+     * @return the summary, or null if no instructor found
+     */
+    InstructorSummary findInstructorSummary(int id);
+
+    /**
+     * Finds the next page of Instructor summaries, ordered by ID, without loading any entity.
+     *
+     * @param lastId the ID of the last instructor already seen, 0 for the first page
+     * @param pageSize the maximum number of summaries to return
+     * @return the page of summaries
+     */
+    KeysetPage<InstructorSummary> findInstructorSummariesAfter(int lastId, int pageSize);
+
+    /**
+     * Finds the Course summaries of an Instructor, without loading any entity.
+     *
+     * @param instructorId the ID of the instructor
+     * @return the summaries of the instructor's courses, ordered by ID
+     */
+    List<CourseSummary> findCourseSummariesByInstructor(int instructorId);
+
+    /**
+     * Finds the next page of Course summaries, ordered by ID, without loading any entity.
+     *
+     * @param lastId the ID of the last course already seen, 0 for the first page
+     * @param pageSize the maximum number of summaries to return
+     * @return the page of summaries
+     */
+    KeysetPage<CourseSummary> findCourseSummariesAfter(int lastId, int pageSize);
+
+    /**
+     * Finds the version of an Instructor without loading it, e.g. to answer a conditional request.
+     *
+     * @param id the ID of the instructor
+     * @return the version of the instructor, or null if no instructor found
+     */
+    Integer findInstructorVersion(int id);
+
+    /**
+     * Finds the version of a Course without loading it.
+     *
+     * @param id the ID of the course
+     * @return the version of the course, or null if no course found
+     * @see #findInstructorVersion(int)
+     */
+    Integer findCourseVersion(int id);
+
+    /**
+     * Finds the version of a Student without loading it.
+     *
+     * @param id the ID of the student
+     * @return the version of the student, or null if no student found
+     * @see #findInstructorVersion(int)
+     */
+    Integer findStudentVersion(int id);
+
+    /**
+     * Saves a new Review of a Course, without loading the course or its other reviews.
+     *
+     * @param courseId the ID of the reviewed course
+     * @param review the review to save
+     */
+    void saveReview(int courseId, Review review);
+
+    /**
+     * Finds the next page of a Course's Reviews, ordered by ID, after the given cursor.
+     *
+     * @param courseId the ID of the course
+     * @param lastId the ID of the last review already seen, 0 for the first page
+     * @param pageSize the maximum number of reviews to return
+     * @return the page of reviews
+     */
+    KeysetPage<Review> findReviewsAfter(int courseId, int lastId, int pageSize);
+
+    /**
+     * Finds the next page of Students enrolled in a Course, ordered by ID, after the given cursor.
+     *
+     * @param courseId the ID of the course
+     * @param lastId the ID of the last student already seen, 0 for the first page
+     * @param pageSize the maximum number of students to return
+     * @return the page of students
+     */
+    KeysetPage<Student> findStudentsByCourseAfter(int courseId, int lastId, int pageSize);
+
+    /**
+     * Finds the next page of summaries of the Courses a Student is enrolled in, ordered by ID.
+     *
+     * @param studentId the ID of the student
+     * @param lastId the ID of the last course already seen, 0 for the first page
+     * @param pageSize the maximum number of summaries to return
+     * @return the page of summaries
+     */
+    KeysetPage<CourseSummary> findCourseSummariesByStudentAfter(int studentId, int lastId, int pageSize);
 }
@@ -0,0 +1,60 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing ordered by ID.
+ * The next page is requested with {@link #lastId()} (or the equivalent {@link #continuationToken()}),
+ * so every page costs one index range scan no matter how deep it is.
+ *
+ * @param content the entities on this page, in ascending ID order
+ * @param lastId  the ID of the last entity on this page, or the requested cursor if the page is empty
+ * @param hasNext whether more rows exist after this page
+ * @param <T>     the entity type
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record KeysetPage<T>(List<T> content, int lastId, boolean hasNext) {
+
+    private static final String TOKEN_PREFIX = "id:";
+
+    /**
+     * Gets an opaque token that resumes the listing after this page.
+     *
+     * @return the continuation token, or null if this is the last page
+     */
+    public String continuationToken() {
+        return hasNext ? encode(lastId) : null;
+    }
+
+    /**
+     * Encodes a cursor as an opaque continuation token.
+     *
+     * @param lastId the ID of the last entity already seen
+     * @return the continuation token
+     */
+    public static String encode(int lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a continuation token back into the cursor it was created from.
+     *
+     * @param token the continuation token, null or blank for the first page
+     * @return the ID to continue after, 0 for the first page
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static int decode(String token) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        if (!value.startsWith(TOKEN_PREFIX)) {
+            throw new IllegalArgumentException("Invalid continuation token: " + token);
+        }
+        return Integer.parseInt(value.substring(TOKEN_PREFIX.length()));
+    }
+}
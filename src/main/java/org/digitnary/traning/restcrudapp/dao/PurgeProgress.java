@@ -0,0 +1,14 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+/**
+ * Progress of a chunked purge. A purge that was interrupted resumes from {@link #lastId()}.
+ *
+ * @param deleted  the number of parent rows deleted so far
+ * @param lastId   the highest ID deleted so far, or the cursor the purge started from
+ * @param chunks   the number of transactions committed so far
+ * @param finished whether no matching rows are left
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record PurgeProgress(long deleted, int lastId, long chunks, boolean finished) {
+}
@@ -0,0 +1,17 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import java.util.List;
+
+/**
+ * One page of results ordered by relevance.
+ * Ranks are not unique, so unlike {@link KeysetPage} the position is a page number.
+ *
+ * @param content the results on this page, most relevant first
+ * @param page    the zero-based number of this page
+ * @param hasNext whether more results exist after this page
+ * @param <T>     the result type
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record RankedPage<T>(List<T> content, int page, boolean hasNext) {
+}
@@ -0,0 +1,50 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.dto.CourseStats;
+import org.digitnary.traning.restcrudapp.dto.InstructorCourseCount;
+
+import java.util.List;
+
+/**
+ * Read access to the precomputed reporting aggregates.
+ * Every method reads a summary table through an index, never the live course, review or enrollment rows,
+ * so its cost does not grow with the catalog. Only available when {@code app.reporting.enabled} is set.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public interface ReportingDao {
+
+    /**
+     * Lists instructors with their course counts, in ascending ID order.
+     *
+     * @param lastId   the ID of the last instructor of the previous page, 0 for the first page
+     * @param pageSize the maximum number of instructors to return
+     * @return the page of course counts
+     */
+    KeysetPage<InstructorCourseCount> findInstructorCourseCountsAfter(int lastId, int pageSize);
+
+    /**
+     * Gets the enrollment and review counts of a course.
+     *
+     * @param courseId the ID of the course
+     * @return the statistics, or null if the course is not in the summary
+     */
+    CourseStats findCourseStats(int courseId);
+
+    /**
+     * Gets the courses with the most enrolled students.
+     *
+     * @param limit the number of courses to return
+     * @return the courses, most enrolled first
+     */
+    List<CourseStats> findTopCoursesByStudents(int limit);
+
+    /**
+     * Gets the courses with the most reviews.
+     *
+     * @param limit the number of courses to return
+     * @return the courses, most reviewed first
+     */
+    List<CourseStats> findTopCoursesByReviews(int limit);
+}
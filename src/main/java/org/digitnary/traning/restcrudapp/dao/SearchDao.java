@@ -0,0 +1,39 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.dto.CourseHit;
+import org.digitnary.traning.restcrudapp.dto.ReviewHit;
+
+/**
+ * Full-text search over course titles and review comments.
+ * Queries use web search syntax: words are ANDed, {@code "quoted phrases"} match in order,
+ * {@code or} separates alternatives and {@code -word} excludes a word. Requires PostgreSQL and
+ * {@code db/007-full-text-search.sql}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public interface SearchDao {
+
+    /**
+     * Searches course titles.
+     *
+     * @param query    the search text
+     * @param page     the zero-based page number
+     * @param pageSize the maximum number of courses to return
+     * @return the matching courses, most relevant first
+     * @throws IllegalArgumentException if the query is blank or the page is out of range
+     */
+    RankedPage<CourseHit> searchCourses(String query, int page, int pageSize);
+
+    /**
+     * Searches review comments, optionally within one course.
+     *
+     * @param query    the search text
+     * @param courseId the ID of the course to search in, or null for all courses
+     * @param page     the zero-based page number
+     * @param pageSize the maximum number of reviews to return
+     * @return the matching reviews, most relevant first
+     * @throws IllegalArgumentException if the query is blank or the page is out of range
+     */
+    RankedPage<ReviewHit> searchReviews(String query, Integer courseId, int page, int pageSize);
+}
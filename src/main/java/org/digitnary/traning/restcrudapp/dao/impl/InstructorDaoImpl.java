@@ -1,18 +1,59 @@
 package org.digitnary.traning.restcrudapp.dao.impl;
 
+import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.EntityManager;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.TypedQuery;
+import org.digitnary.traning.restcrudapp.cache.CacheRegions;
+import org.digitnary.traning.restcrudapp.dao.BulkImportResult;
+import org.digitnary.traning.restcrudapp.dao.ConcurrentUpdateException;
+import org.digitnary.traning.restcrudapp.dao.FetchPlan;
 import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dao.PurgeProgress;
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.InstructorSummary;
 import org.digitnary.traning.restcrudapp.entity.Course;
 import org.digitnary.traning.restcrudapp.entity.Instructor;
 import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Review;
 import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.reporting.ReportingChanges;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 /**
  * Implementation of the InstructorDao interface.
  * Provides methods to perform CRUD operations on Instructor, Course, and Student entities.
@@ -22,10 +63,32 @@ import java.util.List;
 @Repository
 @Transactional
 public class InstructorDaoImpl implements InstructorDao {
+    private static final String INSTRUCTOR_SUMMARY = "SELECT new org.digitnary.traning.restcrudapp.dto.InstructorSummary(" +
+            "i.id, i.firstName, i.lastName, i.email, COUNT(c)) FROM Instructor i LEFT JOIN i.courses c ";
+    private static final String INSTRUCTOR_SUMMARY_GROUP = "GROUP BY i.id, i.firstName, i.lastName, i.email ";
+    private static final String COURSE_SUMMARY = "SELECT new org.digitnary.traning.restcrudapp.dto.CourseSummary(" +
+            "c.id, c.title, i.id, i.firstName, i.lastName) FROM Course c LEFT JOIN c.instructor i ";
+    private final Logger logger = LoggerFactory.getLogger(InstructorDaoImpl.class);
     private final EntityManager em;
+    private final CacheRegions cacheRegions;
+    private final ReportingChanges reportingChanges;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxPageSize;
+    private final int purgeChunkSize;
     @Autowired
-    public InstructorDaoImpl(EntityManager em) {
+    public InstructorDaoImpl(EntityManager em, CacheRegions cacheRegions, ReportingChanges reportingChanges,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.bulk.chunk-size:500}") int chunkSize,
+                             @Value("${app.paging.max-page-size:500}") int maxPageSize,
+                             @Value("${app.purge.chunk-size:1000}") int purgeChunkSize) {
         this.em = em;
+        this.cacheRegions = cacheRegions;
+        this.reportingChanges = reportingChanges;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxPageSize = maxPageSize;
+        this.purgeChunkSize = purgeChunkSize;
     }
 
     @Override
@@ -35,53 +98,132 @@ public class InstructorDaoImpl implements InstructorDao {
 
     @Override
     public void update(Instructor instructor) {
-      em.merge(instructor);
+      int version = instructor.getVersion();
+      InstructorDetail detail = instructor.getDetail();
+      int detailVersion = detail == null ? 0 : detail.getVersion();
+      Instructor merged = mergeChecked(Instructor.class, instructor.getId(), instructor);
+      boolean detailChanged = detail != null && detail.getId() != 0
+              && merged.getDetail() != null && merged.getDetail().getVersion() != detailVersion;
+      if (instructor.getId() != 0 && merged.getVersion() == version && detailChanged) {
+          // only the detail changed: bump the instructor with a versioned UPDATE before commit, without a row lock;
+          // a writer that got in since the merge fails that UPDATE as an optimistic locking failure at commit
+          em.lock(merged, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+      }
+      cacheRegions.evictInstructor(instructor.getId());
+      if (instructor.getDetail() != null) {
+          cacheRegions.evictDetail(instructor.getDetail().getId());
+      }
     }
 
     @Override
     public void delete(int id) {
-        Instructor managedInstructor =findInstructorByJoinFetch(id);
-        if (managedInstructor != null) {
-             managedInstructor.getCourses().
-                     forEach((course)-> course.setInstructor(null));
-            em.remove(managedInstructor);
+        Integer detailId = em.createQuery("SELECT d.id FROM Instructor i JOIN i.detail d WHERE i.id = :id", Integer.class)
+                .setParameter("id", id)
+                .getResultStream().findFirst().orElse(null);
+        if (reportingChanges.isEnabled()) {
+            reportingChanges.coursesChanged(em.createQuery("SELECT c.id FROM Course c WHERE c.instructor.id = :id", Integer.class)
+                    .setParameter("id", id).getResultList());
+        }
+        beforeBulkStatements();
+        em.createQuery("UPDATE Course c SET c.instructor = null WHERE c.instructor.id = :id")
+                .setParameter("id", id).executeUpdate();
+        int deleted = em.createQuery("DELETE FROM Instructor i WHERE i.id = :id")
+                .setParameter("id", id).executeUpdate();
+        if (detailId != null) {
+            em.createQuery("DELETE FROM InstructorDetail d WHERE d.id = :id")
+                    .setParameter("id", detailId).executeUpdate();
+            cacheRegions.evictDetail(detailId);
+        }
+        for (Object entity : managedEntities()) {
+            if (entity instanceof Course course && course.getInstructor() != null && course.getInstructor().getId() == id) {
+                // the row was unlinked above, a later flush must not write the deleted instructor back
+                course.setInstructor(null);
+            }
+        }
+        removedByBulkStatements(entity -> entity instanceof Instructor instructor && instructor.getId() == id
+                || entity instanceof InstructorDetail detail && detailId != null && detail.getId() == detailId);
+        if (deleted > 0) {
+            reportingChanges.instructorChanged(id);
+            cacheRegions.evictInstructor(id);
+            cacheRegions.evictInstructorCourses();
         }
-
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Instructor findById(int id) {
         return em.find(Instructor.class, id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Instructor findById(int id, FetchPlan plan) {
+        if (plan.getEntityGraph() == null) {
+            return findById(id);
+        }
+        // a query rather than em.find, so the graph is honoured even when the instructor is in the second-level cache
+        return em.createQuery("SELECT i FROM Instructor i WHERE i.id = :id", Instructor.class)
+                .setParameter("id", id)
+                .setHint("jakarta.persistence.loadgraph", em.getEntityGraph(plan.getEntityGraph()))
+                .getResultStream().findFirst().orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<Instructor> findAll() {
-        return em.createQuery("from Instructor", Instructor.class).getResultList();
+        return findAll(FetchPlan.BASIC);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Instructor> findAll(FetchPlan plan) {
+        if (plan.getEntityGraph() == null) {
+            return em.createQuery("SELECT i FROM Instructor i LEFT JOIN FETCH i.detail", Instructor.class)
+                    .getResultList();
+        }
+        return em.createQuery("SELECT i FROM Instructor i", Instructor.class)
+                .setHint("jakarta.persistence.loadgraph", em.getEntityGraph(plan.getEntityGraph()))
+                .getResultList();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Instructor> findAllAfter(int lastId, int pageSize) {
+        return pageAfter(em.createQuery("SELECT i FROM Instructor i LEFT JOIN FETCH i.detail " +
+                "WHERE i.id > :last ORDER BY i.id", Instructor.class), lastId, pageSize, Instructor::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Instructor findByName(String firstName, String lastName) {
         return em.createQuery("from Instructor where firstName=:fN and lastName=:lN",Instructor.class).
                 setParameter("fN", firstName).
                 setParameter("lN", lastName).
+                setHint(HibernateHints.HINT_CACHEABLE, true).
+                setHint(HibernateHints.HINT_CACHE_REGION, CacheRegions.INSTRUCTOR_LOOKUPS).
                 getSingleResult();
     }
 
     @Override
+    // on the primary: with a replica, a lagging resolution must not reach the natural-id cache
+    @Transactional
     public Instructor findByEmail(String email) {
-        return em.createQuery("from Instructor where email=:e",Instructor.class).
-                setParameter("e", email).getSingleResult();
+        return em.unwrap(Session.class).bySimpleNaturalId(Instructor.class).load(email);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Instructor findByYoutubeChannel(String youtubeChannel) {
         return em.createQuery(
                         "SELECT i FROM Instructor i JOIN i.detail id WHERE id.youtubeChannel = :youtube", Instructor.class)
                 .setParameter("youtube", youtubeChannel)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, CacheRegions.INSTRUCTOR_LOOKUPS)
                 .getSingleResult();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public InstructorDetail findDetailById(int id) {
         return em.find(InstructorDetail.class, id);
     }
@@ -92,29 +234,43 @@ public class InstructorDaoImpl implements InstructorDao {
         if(instructorDetail != null) {
             instructorDetail.getInstructor().setDetail(null);
             em.remove(instructorDetail);
+            cacheRegions.evictDetail(id);
+            cacheRegions.evictInstructor(instructorDetail.getInstructor().getId());
             return instructorDetail;
         }
         return null;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Course> findByInstructor(Instructor i) {
         return em.createQuery("from Course where instructor.id =:i",Course.class).setParameter("i",i.getId())
                 .getResultList();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Course findCourseById(int id) {
         return em.find(Course.class,id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Course> findCoursesAfter(int lastId, int pageSize) {
+        return pageAfter(em.createQuery("SELECT c FROM Course c WHERE c.id > :last ORDER BY c.id", Course.class),
+                lastId, pageSize, Course::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Course findCourseAndInstructor(int id) {
-        Course course = findCourseById(id);
-        findById(course.getInstructor().getId());
-        return course;
+        return em.createQuery("SELECT c FROM Course c LEFT JOIN FETCH c.instructor i LEFT JOIN FETCH i.detail " +
+                        "WHERE c.id = :id", Course.class)
+                .setParameter("id", id)
+                .getResultStream().findFirst().orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public Instructor findInstructorByJoinFetch(int id) {
         return em.createQuery("SELECT i from Instructor i " +
                 "JOIN FETCH i.courses " + "where i.id=:data" , Instructor.class )
@@ -123,21 +279,34 @@ public class InstructorDaoImpl implements InstructorDao {
 
     @Override
     public void updateCourse(Course course) {
-        em.merge(course);
+        mergeChecked(Course.class, course.getId(), course);
+        cacheRegions.evictCourse(course.getId());
     }
 
     @Override
     public void deleteCourse(int id) {
-        Course course = findCourseById(id);
-        em.remove(course);
+        beforeBulkStatements();
+        deleteCourses(List.of(id));
+        cacheRegions.evictCourse(id);
     }
 
     @Override
     public void saveCourse(Course course) {
         em.persist(course);
+        if (course.getInstructor() != null) {
+            cacheRegions.evictInstructorCourses();
+        }
     }
 
     @Override
+    public void saveCourse(Course course, int instructorId) {
+        course.setInstructor(em.getReference(Instructor.class, instructorId));
+        em.persist(course);
+        cacheRegions.evictInstructorCourses();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Course findCourseAndReviewsById(int id) {
         return em.createQuery("SELECT c from Course c "+
                 "JOIN FETCH c.reviews "+"where c.id=:data",Course.class).
@@ -150,6 +319,27 @@ public class InstructorDaoImpl implements InstructorDao {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Student findStudentById(int id) {
+        return em.find(Student.class, id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> findStudentsAfter(int lastId, int pageSize) {
+        return pageAfter(em.createQuery("SELECT s FROM Student s WHERE s.id > :last ORDER BY s.id", Student.class),
+                lastId, pageSize, Student::getId);
+    }
+
+    @Override
+    // on the primary: with a replica, a lagging resolution must not reach the natural-id cache
+    @Transactional
+    public Student findStudentByEmail(String email) {
+        return em.unwrap(Session.class).bySimpleNaturalId(Student.class).load(email);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Course findCourseWithItsStudentById(int id) {
         return em.createQuery("SELECT c from Course c "+
                 "JOIN FETCH c.students "+"where c.id = :data",Course.class).
@@ -157,6 +347,7 @@ public class InstructorDaoImpl implements InstructorDao {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Student findStudentsAndHisCoursesById(int id) {
         return em.createQuery("SELECT s FROM Student s "+
                 "JOIN FETCH s.courses "+"where s.id=:data",Student.class)
@@ -165,11 +356,428 @@ public class InstructorDaoImpl implements InstructorDao {
 
     @Override
     public void updateStudent(Student student) {
-        em.merge(student);
+        mergeChecked(Student.class, student.getId(), student);
+    }
+
+    @Override
+    public boolean enroll(int studentId, int courseId) {
+        em.flush();
+        reportingChanges.courseChanged(courseId);
+        // the primary key settles concurrent enrollments of the same pair
+        boolean enrolled = updateJoinRows("INSERT INTO course_student (course_id, student_id) VALUES (:course, :student) " +
+                "ON CONFLICT DO NOTHING", Map.of("course", courseId, "student", studentId)) > 0;
+        afterEnrollmentChange(courseId, List.of(studentId));
+        return enrolled;
+    }
+
+    @Override
+    public boolean unenroll(int studentId, int courseId) {
+        em.flush();
+        reportingChanges.courseChanged(courseId);
+        boolean unenrolled = updateJoinRows("DELETE FROM course_student WHERE course_id = :course AND student_id = :student",
+                Map.of("course", courseId, "student", studentId)) > 0;
+        afterEnrollmentChange(courseId, List.of(studentId));
+        return unenrolled;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isEnrolled(int studentId, int courseId) {
+        return !joinTableQuery("SELECT 1 FROM course_student WHERE course_id = :course AND student_id = :student")
+                .setParameter("course", courseId)
+                .setParameter("student", studentId)
+                .setMaxResults(1)
+                .getResultList().isEmpty();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countStudents(int courseId) {
+        return ((Number) joinTableQuery("SELECT count(*) FROM course_student WHERE course_id = :course")
+                .setParameter("course", courseId)
+                .getSingleResult()).longValue();
+    }
+
+    @Override
+    public int enrollAll(int courseId, int[] studentIds) {
+        List<Integer> ids = Arrays.stream(studentIds).distinct().boxed().toList();
+        em.flush();
+        reportingChanges.courseChanged(courseId);
+        int enrolled = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            enrolled += updateJoinRows("INSERT INTO course_student (course_id, student_id) " +
+                    "SELECT :course, s.id FROM students s WHERE s.id IN (:ids) ON CONFLICT DO NOTHING",
+                    Map.of("course", courseId, "ids", ids.subList(from, Math.min(from + chunkSize, ids.size()))));
+        }
+        afterEnrollmentChange(courseId, ids);
+        return enrolled;
     }
 
     @Override
     public void deleteStudentById(int id) {
-        em.remove(findStudentsAndHisCoursesById(id));
+        beforeBulkStatements();
+        deleteStudents(List.of(id));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public <T> T updateWithRetry(Class<T> type, int id, Consumer<? super T> change, int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("At least one attempt is needed: " + maxAttempts);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    // bypass the second-level cache, a retry must see the state that won
+                    T entity = em.find(type, id, Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS));
+                    if (entity == null) {
+                        return null;
+                    }
+                    change.accept(entity);
+                    try {
+                        em.flush();
+                    } catch (OptimisticLockException e) {
+                        throw new ConcurrentUpdateException(type, id, e);
+                    }
+                    return entity;
+                });
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw e instanceof ConcurrentUpdateException conflict ? conflict
+                            : new ConcurrentUpdateException(type, id, e);
+                }
+                logger.debug("{} {} was updated concurrently, retrying ({}/{})", type.getSimpleName(), id,
+                        attempt, maxAttempts);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PurgeProgress deleteCoursesOlderThan(Instant cutoff, int resumeAfterId, Consumer<PurgeProgress> progress) {
+        PurgeProgress result = purgeInChunks(resumeAfterId, progress, last -> {
+            List<Integer> ids = em.createQuery("SELECT c.id FROM Course c " +
+                            "WHERE c.createdAt < :cutoff AND c.id > :last ORDER BY c.id", Integer.class)
+                    .setParameter("cutoff", cutoff)
+                    .setParameter("last", last)
+                    .setMaxResults(purgeChunkSize)
+                    .getResultList();
+            if (!ids.isEmpty()) {
+                deleteCourses(ids);
+            }
+            return ids;
+        });
+        cacheRegions.evictInstructorCourses();
+        return result;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PurgeProgress deleteStudentsWhere(String emailPattern, int resumeAfterId, Consumer<PurgeProgress> progress) {
+        return purgeInChunks(resumeAfterId, progress, last -> {
+            List<Integer> ids = em.createQuery("SELECT s.id FROM Student s " +
+                            "WHERE s.email LIKE :pattern AND s.id > :last ORDER BY s.id", Integer.class)
+                    .setParameter("pattern", emailPattern)
+                    .setParameter("last", last)
+                    .setMaxResults(purgeChunkSize)
+                    .getResultList();
+            if (!ids.isEmpty()) {
+                deleteStudents(ids);
+            }
+            return ids;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public InstructorSummary findInstructorSummary(int id) {
+        return em.createQuery(INSTRUCTOR_SUMMARY + "WHERE i.id = :id " + INSTRUCTOR_SUMMARY_GROUP, InstructorSummary.class)
+                .setParameter("id", id)
+                .getResultStream().findFirst().orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<InstructorSummary> findInstructorSummariesAfter(int lastId, int pageSize) {
+        return pageAfter(em.createQuery(INSTRUCTOR_SUMMARY + "WHERE i.id > :last " + INSTRUCTOR_SUMMARY_GROUP +
+                "ORDER BY i.id", InstructorSummary.class), lastId, pageSize, InstructorSummary::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CourseSummary> findCourseSummariesByInstructor(int instructorId) {
+        return em.createQuery(COURSE_SUMMARY + "WHERE i.id = :instructor ORDER BY c.id", CourseSummary.class)
+                .setParameter("instructor", instructorId)
+                .getResultList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<CourseSummary> findCourseSummariesAfter(int lastId, int pageSize) {
+        return pageAfter(em.createQuery(COURSE_SUMMARY + "WHERE c.id > :last ORDER BY c.id", CourseSummary.class),
+                lastId, pageSize, CourseSummary::id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer findInstructorVersion(int id) {
+        return versionOf(Instructor.class, id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer findCourseVersion(int id) {
+        return versionOf(Course.class, id);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Integer findStudentVersion(int id) {
+        return versionOf(Student.class, id);
+    }
+
+    @Override
+    public void saveReview(int courseId, Review review) {
+        review.setCourse(em.getReference(Course.class, courseId));
+        em.persist(review);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Review> findReviewsAfter(int courseId, int lastId, int pageSize) {
+        return pageAfter(em.createQuery("SELECT r FROM Review r WHERE r.course.id = :course AND r.id > :last " +
+                        "ORDER BY r.id", Review.class).setParameter("course", courseId),
+                lastId, pageSize, Review::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<Student> findStudentsByCourseAfter(int courseId, int lastId, int pageSize) {
+        return pageAfter(em.createQuery("SELECT s FROM Course c JOIN c.students s " +
+                        "WHERE c.id = :course AND s.id > :last ORDER BY s.id", Student.class).setParameter("course", courseId),
+                lastId, pageSize, Student::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<CourseSummary> findCourseSummariesByStudentAfter(int studentId, int lastId, int pageSize) {
+        return pageAfter(em.createQuery(COURSE_SUMMARY + "JOIN c.students s WHERE s.id = :student AND c.id > :last " +
+                        "ORDER BY c.id", CourseSummary.class).setParameter("student", studentId),
+                lastId, pageSize, CourseSummary::id);
+    }
+
+    /**
+     * Reads the version column of one entity with a scalar query, so nothing is loaded or cached.
+     */
+    private Integer versionOf(Class<?> entity, int id) {
+        return em.createQuery("SELECT e.version FROM " + entity.getSimpleName() + " e WHERE e.id = :id", Integer.class)
+                .setParameter("id", id)
+                .getResultStream().findFirst().orElse(null);
+    }
+
+    /**
+     * Runs {@code chunk} in its own transaction until it deletes nothing. The function receives the
+     * last deleted ID and returns the IDs it deleted, in ascending order.
+     */
+    private PurgeProgress purgeInChunks(int resumeAfterId, Consumer<PurgeProgress> progress,
+                                        IntFunction<List<Integer>> chunk) {
+        PurgeProgress current = new PurgeProgress(0, resumeAfterId, 0, false);
+        while (true) {
+            int last = current.lastId();
+            List<Integer> ids = transactionTemplate.execute(status -> chunk.apply(last));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            current = new PurgeProgress(current.deleted() + ids.size(), ids.get(ids.size() - 1), current.chunks() + 1, false);
+            progress.accept(current);
+        }
+        PurgeProgress finished = new PurgeProgress(current.deleted(), current.lastId(), current.chunks(), true);
+        progress.accept(finished);
+        return finished;
+    }
+
+    /**
+     * Merges a detached entity and flushes, so a stale version is reported here as a typed conflict
+     * rather than as a generic failure at commit.
+     */
+    private <T> T mergeChecked(Class<T> type, int id, T entity) {
+        try {
+            T merged = em.merge(entity);
+            em.flush();
+            return merged;
+        } catch (OptimisticLockException e) {
+            throw new ConcurrentUpdateException(type, id, e);
+        }
+    }
+
+    /**
+     * Deletes courses with their reviews and enrollments, children first.
+     * Bulk statements fire no entity events, so the affected courses and instructors are marked for reporting here.
+     */
+    private void deleteCourses(Collection<Integer> ids) {
+        if (reportingChanges.isEnabled()) {
+            reportingChanges.coursesChanged(ids);
+            em.createQuery("SELECT DISTINCT c.instructor.id FROM Course c WHERE c.id IN :ids", Integer.class)
+                    .setParameter("ids", ids).getResultList().forEach(reportingChanges::instructorChanged);
+        }
+        em.createQuery("DELETE FROM Review r WHERE r.course.id IN :ids").setParameter("ids", ids).executeUpdate();
+        deleteJoinRows("DELETE FROM course_student WHERE course_id IN (:ids)", ids);
+        em.createQuery("DELETE FROM Course c WHERE c.id IN :ids").setParameter("ids", ids).executeUpdate();
+        removedByBulkStatements(entity -> entity instanceof Course course && ids.contains(course.getId())
+                || entity instanceof Review review && review.getCourse() != null && ids.contains(review.getCourse().getId()));
+    }
+
+    /**
+     * Deletes students with their enrollments, children first.
+     */
+    private void deleteStudents(Collection<Integer> ids) {
+        if (reportingChanges.isEnabled()) {
+            reportingChanges.coursesChanged(joinTableQuery("SELECT DISTINCT course_id FROM course_student WHERE student_id IN (:ids)")
+                    .setParameter("ids", ids).getResultList().stream().map(id -> ((Number) id).intValue()).toList());
+        }
+        deleteJoinRows("DELETE FROM course_student WHERE student_id IN (:ids)", ids);
+        em.createQuery("DELETE FROM Student s WHERE s.id IN :ids").setParameter("ids", ids).executeUpdate();
+        removedByBulkStatements(entity -> entity instanceof Student student && ids.contains(student.getId()));
+    }
+
+    /**
+     * Writes pending changes before bulk statements remove rows behind the persistence context.
+     * Hibernate itself invalidates the second-level cache regions of the entities a bulk statement touches.
+     */
+    private void beforeBulkStatements() {
+        em.flush();
+    }
+
+    /**
+     * Marks the managed instances whose rows a bulk statement just deleted as removed, as a flushed
+     * {@code em.remove} would: {@code find} no longer returns them and flushes skip them. Unlike detaching,
+     * nothing cascades, so every other managed instance and the caller's changes to it stay intact.
+     * Collections loaded before the statement may still list the removed instances until reloaded.
+     */
+    private void removedByBulkStatements(Predicate<Object> removed) {
+        PersistenceContext context = em.unwrap(SessionImplementor.class).getPersistenceContextInternal();
+        for (Map.Entry<Object, EntityEntry> entry : context.reentrantSafeEntityEntries()) {
+            if (removed.test(entry.getKey())) {
+                entry.getValue().postDelete();
+            }
+        }
+    }
+
+    /**
+     * @return the instances managed by the current persistence context
+     */
+    private List<Object> managedEntities() {
+        return Arrays.stream(em.unwrap(SessionImplementor.class).getPersistenceContextInternal().reentrantSafeEntityEntries())
+                .map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Deletes rows of the course_student join table.
+     */
+    private void deleteJoinRows(String sql, Collection<Integer> ids) {
+        updateJoinRows(sql, Map.of("ids", ids));
+    }
+
+    /**
+     * Inserts or deletes rows of the course_student join table, declaring it as the only table touched
+     * so Hibernate does not invalidate unrelated cache regions.
+     */
+    private int updateJoinRows(String sql, Map<String, ?> parameters) {
+        NativeQuery<?> query = joinTableQuery(sql);
+        parameters.forEach(query::setParameter);
+        return query.executeUpdate();
+    }
+
+    /**
+     * Creates a native query over the course_student join table. Declaring the table limits the
+     * automatic flush before the query to the entities mapped onto it.
+     */
+    private NativeQuery<?> joinTableQuery(String sql) {
+        return em.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedQuerySpace("course_student");
+    }
+
+    /**
+     * Reloads the course and students whose enrollment collections are loaded in this persistence context,
+     * because the join-table statement just changed those collections behind Hibernate's back. Callers flush
+     * before the statement, so nothing pending is lost. Instances are looked up by entity key, which neither
+     * queries nor creates proxies for the IDs that are not loaded; those are left alone.
+     */
+    private void afterEnrollmentChange(int courseId, Collection<Integer> studentIds) {
+        SessionImplementor session = em.unwrap(SessionImplementor.class);
+        Course course = loaded(session, Course.class, courseId);
+        if (course != null && Hibernate.isInitialized(course.getStudents())) {
+            em.refresh(course);
+        }
+        for (int studentId : studentIds) {
+            Student student = loaded(session, Student.class, studentId);
+            if (student != null && Hibernate.isInitialized(student.getCourses())) {
+                em.refresh(student);
+            }
+        }
+    }
+
+    /**
+     * @return the instance of the given type and ID managed by the session, or null if it is not loaded
+     */
+    private static <T> T loaded(SessionImplementor session, Class<T> type, int id) {
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(type);
+        return type.cast(session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister)));
+    }
+
+    /**
+     * Runs a keyset query bound to {@code :last} and reads one row past the page to know whether another page exists.
+     */
+    private <T> KeysetPage<T> pageAfter(TypedQuery<T> query, int lastId, int pageSize, ToIntFunction<T> idOf) {
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ": " + pageSize);
+        }
+        List<T> rows = query.setParameter("last", lastId).setMaxResults(pageSize + 1).getResultList();
+        boolean hasNext = rows.size() > pageSize;
+        List<T> content = hasNext ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        int last = content.isEmpty() ? lastId : idOf.applyAsInt(content.get(content.size() - 1));
+        return new KeysetPage<>(content, last, hasNext);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkImportResult bulkImport(Stream<Student> students) {
+        return importInChunks(students, "students");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkImportResult bulkImportCourses(Stream<Course> courses) {
+        return importInChunks(courses, "courses");
+    }
+
+    /**
+     * Persists the given entities {@code chunkSize} at a time, each chunk in its own transaction.
+     * Flushing and clearing after every chunk keeps the persistence context bounded.
+     */
+    private BulkImportResult importInChunks(Stream<?> entities, String label) {
+        long started = System.nanoTime();
+        long[] rows = {0};
+        long chunks = 0;
+        Iterator<?> iterator = entities.iterator();
+        while (iterator.hasNext()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                int inChunk = 0;
+                while (inChunk < chunkSize && iterator.hasNext()) {
+                    em.persist(iterator.next());
+                    inChunk++;
+                }
+                em.flush();
+                em.clear();
+                rows[0] += inChunk;
+            });
+            chunks++;
+            if (chunks % 100 == 0) {
+                logger.info("Imported {} {} so far", rows[0], label);
+            }
+        }
+        BulkImportResult result = new BulkImportResult(rows[0], chunks, Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Imported {} {} in {} chunks ({} rows/sec)", result.rows(), label, result.chunks(),
+                String.format("%.1f", result.rowsPerSecond()));
+        return result;
     }
 }
@@ -0,0 +1,120 @@
+package org.digitnary.traning.restcrudapp.dao.impl;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dao.ReportingDao;
+import org.digitnary.traning.restcrudapp.dto.CourseStats;
+import org.digitnary.traning.restcrudapp.dto.InstructorCourseCount;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of the ReportingDao interface over the report_* summary tables.
+ * The tables are not mapped as entities; rows are read with typed native queries and mapped to DTOs.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Repository
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true")
+public class ReportingDaoImpl implements ReportingDao {
+
+    private static final String COURSE_STATS = "SELECT course_id, title, instructor_id, student_count, review_count, " +
+            "refreshed_at FROM report_course_stats ";
+
+    private final EntityManager em;
+    private final int maxPageSize;
+
+    @Autowired
+    public ReportingDaoImpl(EntityManager em, @Value("${app.paging.max-page-size:500}") int maxPageSize) {
+        this.em = em;
+        this.maxPageSize = maxPageSize;
+    }
+
+    @Override
+    public KeysetPage<InstructorCourseCount> findInstructorCourseCountsAfter(int lastId, int pageSize) {
+        checkSize(pageSize);
+        List<Object[]> rows = reportQuery("SELECT instructor_id, first_name, last_name, course_count " +
+                        "FROM report_instructor_courses WHERE instructor_id > :last ORDER BY instructor_id")
+                .addScalar("instructor_id", StandardBasicTypes.INTEGER)
+                .addScalar("first_name", StandardBasicTypes.STRING)
+                .addScalar("last_name", StandardBasicTypes.STRING)
+                .addScalar("course_count", StandardBasicTypes.LONG)
+                .setParameter("last", lastId)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageSize;
+        List<InstructorCourseCount> content = rows.stream().limit(pageSize)
+                .map(row -> new InstructorCourseCount((Integer) row[0], (String) row[1], (String) row[2], (Long) row[3]))
+                .toList();
+        int last = content.isEmpty() ? lastId : content.get(content.size() - 1).instructorId();
+        return new KeysetPage<>(content, last, hasNext);
+    }
+
+    @Override
+    public CourseStats findCourseStats(int courseId) {
+        return courseStatsQuery(COURSE_STATS + "WHERE course_id = :id")
+                .setParameter("id", courseId)
+                .getResultStream().findFirst().map(ReportingDaoImpl::toCourseStats).orElse(null);
+    }
+
+    @Override
+    public List<CourseStats> findTopCoursesByStudents(int limit) {
+        return topCourses(COURSE_STATS + "ORDER BY student_count DESC, course_id", limit);
+    }
+
+    @Override
+    public List<CourseStats> findTopCoursesByReviews(int limit) {
+        return topCourses(COURSE_STATS + "ORDER BY review_count DESC, course_id", limit);
+    }
+
+    /**
+     * Reads the first rows of an ordering backed by one of the count indexes of db/006-reporting-summaries.sql.
+     */
+    private List<CourseStats> topCourses(String sql, int limit) {
+        checkSize(limit);
+        return courseStatsQuery(sql).setMaxResults(limit).getResultList().stream()
+                .map(ReportingDaoImpl::toCourseStats).toList();
+    }
+
+    private NativeQuery<Object[]> courseStatsQuery(String sql) {
+        return reportQuery(sql)
+                .addScalar("course_id", StandardBasicTypes.INTEGER)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("instructor_id", StandardBasicTypes.INTEGER)
+                .addScalar("student_count", StandardBasicTypes.LONG)
+                .addScalar("review_count", StandardBasicTypes.LONG)
+                .addScalar("refreshed_at", StandardBasicTypes.INSTANT);
+    }
+
+    private static CourseStats toCourseStats(Object[] row) {
+        return new CourseStats((Integer) row[0], (String) row[1], (Integer) row[2],
+                (Long) row[3], (Long) row[4], (Instant) row[5]);
+    }
+
+    /**
+     * Creates a native query over the reporting tables. Declaring them as the query space keeps the
+     * automatic flush before the query from writing pending entity changes it does not read.
+     */
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> reportQuery(String sql) {
+        return em.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("report_course_stats")
+                .addSynchronizedQuerySpace("report_instructor_courses");
+    }
+
+    private void checkSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ": " + size);
+        }
+    }
+}
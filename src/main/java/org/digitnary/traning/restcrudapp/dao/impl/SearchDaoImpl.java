@@ -0,0 +1,111 @@
+package org.digitnary.traning.restcrudapp.dao.impl;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.dao.RankedPage;
+import org.digitnary.traning.restcrudapp.dao.SearchDao;
+import org.digitnary.traning.restcrudapp.dto.CourseHit;
+import org.digitnary.traning.restcrudapp.dto.ReviewHit;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Implementation of the SearchDao interface over the generated tsvector columns.
+ * Matching rows are found through the GIN indexes; only those rows are ranked, and results are
+ * returned as DTOs without loading any entity.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Repository
+@Transactional(readOnly = true)
+public class SearchDaoImpl implements SearchDao {
+
+    private static final String COURSE_SEARCH = "SELECT c.id, c.title, c.instructor_id, ts_rank(c.title_tsv, q) AS rank " +
+            "FROM courses c, websearch_to_tsquery('english', :query) q WHERE c.title_tsv @@ q " +
+            "ORDER BY rank DESC, c.id";
+    private static final String REVIEW_SEARCH = "SELECT r.id, r.course_id, r.comment, ts_rank(r.comment_tsv, q) AS rank " +
+            "FROM course_reviews r, websearch_to_tsquery('english', :query) q WHERE r.comment_tsv @@ q ";
+    private static final String REVIEW_ORDER = "ORDER BY rank DESC, r.id";
+
+    private final EntityManager em;
+    private final int maxPageSize;
+    private final int maxResults;
+
+    @Autowired
+    public SearchDaoImpl(EntityManager em,
+                         @Value("${app.paging.max-page-size:500}") int maxPageSize,
+                         @Value("${app.search.max-results:1000}") int maxResults) {
+        this.em = em;
+        this.maxPageSize = maxPageSize;
+        this.maxResults = maxResults;
+    }
+
+    @Override
+    public RankedPage<CourseHit> searchCourses(String query, int page, int pageSize) {
+        NativeQuery<Object[]> search = searchQuery(COURSE_SEARCH, Course.class)
+                .addScalar("id", StandardBasicTypes.INTEGER)
+                .addScalar("title", StandardBasicTypes.STRING)
+                .addScalar("instructor_id", StandardBasicTypes.INTEGER)
+                .addScalar("rank", StandardBasicTypes.FLOAT);
+        return rankedPage(search, query, page, pageSize,
+                row -> new CourseHit((Integer) row[0], (String) row[1], (Integer) row[2], (Float) row[3]));
+    }
+
+    @Override
+    public RankedPage<ReviewHit> searchReviews(String query, Integer courseId, int page, int pageSize) {
+        String sql = courseId == null ? REVIEW_SEARCH + REVIEW_ORDER
+                : REVIEW_SEARCH + "AND r.course_id = :course " + REVIEW_ORDER;
+        NativeQuery<Object[]> search = searchQuery(sql, Review.class)
+                .addScalar("id", StandardBasicTypes.INTEGER)
+                .addScalar("course_id", StandardBasicTypes.INTEGER)
+                .addScalar("comment", StandardBasicTypes.STRING)
+                .addScalar("rank", StandardBasicTypes.FLOAT);
+        if (courseId != null) {
+            search.setParameter("course", courseId);
+        }
+        return rankedPage(search, query, page, pageSize,
+                row -> new ReviewHit((Integer) row[0], (Integer) row[1], (String) row[2], (Float) row[3]));
+    }
+
+    /**
+     * Runs a search and reads one row past the page to know whether another page exists.
+     * Ranking needs every match before the first row is returned, and skipped rows are ranked
+     * as well, so the depth of a page is capped at {@code app.search.max-results}.
+     */
+    private <T> RankedPage<T> rankedPage(NativeQuery<Object[]> search, String query, int page, int pageSize,
+                                         Function<Object[], T> mapper) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize + ": " + pageSize);
+        }
+        if (page < 0 || (long) page * pageSize + pageSize > maxResults) {
+            throw new IllegalArgumentException("Only the first " + maxResults + " results can be paged through: page " + page);
+        }
+        List<Object[]> rows = search.setParameter("query", query)
+                .setFirstResult(page * pageSize)
+                .setMaxResults(pageSize + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > pageSize && (long) (page + 1) * pageSize < maxResults;
+        return new RankedPage<>(rows.stream().limit(pageSize).map(mapper).toList(), page, hasNext);
+    }
+
+    /**
+     * Creates a native search query, synchronized with the entity whose table it reads so the
+     * automatic flush before it is limited to that entity.
+     */
+    @SuppressWarnings("unchecked")
+    private NativeQuery<Object[]> searchQuery(String sql, Class<?> entity) {
+        return em.createNativeQuery(sql).unwrap(NativeQuery.class).addSynchronizedEntityClass(entity);
+    }
+}
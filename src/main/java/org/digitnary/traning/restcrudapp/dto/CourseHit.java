@@ -0,0 +1,14 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+/**
+ * A course matching a full-text search.
+ *
+ * @param id           the ID of the course
+ * @param title        the title of the course
+ * @param instructorId the ID of the instructor, or null if the course has none
+ * @param rank         the relevance of the title to the search, higher is better
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CourseHit(int id, String title, Integer instructorId, float rank) {
+}
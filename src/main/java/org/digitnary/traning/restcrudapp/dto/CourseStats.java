@@ -0,0 +1,20 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+import java.time.Instant;
+
+/**
+ * Enrollment and review counts of a course, read from the reporting summary table.
+ * The counts are as of {@link #refreshedAt()}, at most one refresh interval behind the live tables.
+ *
+ * @param courseId     the ID of the course
+ * @param title        the title of the course
+ * @param instructorId the ID of the instructor, or null if the course has none
+ * @param studentCount the number of enrolled students
+ * @param reviewCount  the number of reviews
+ * @param refreshedAt  when the counts were computed
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CourseStats(int courseId, String title, Integer instructorId,
+                          long studentCount, long reviewCount, Instant refreshedAt) {
+}
@@ -0,0 +1,16 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+/**
+ * Read-only list view of a course, built straight from a query projection.
+ *
+ * @param id                  the ID of the course
+ * @param title               the title of the course
+ * @param instructorId        the ID of the instructor, or null if the course has none
+ * @param instructorFirstName the first name of the instructor, or null
+ * @param instructorLastName  the last name of the instructor, or null
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CourseSummary(int id, String title, Integer instructorId,
+                            String instructorFirstName, String instructorLastName) {
+}
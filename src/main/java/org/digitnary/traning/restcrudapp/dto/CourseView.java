@@ -0,0 +1,30 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+import org.digitnary.traning.restcrudapp.entity.Course;
+
+import java.time.Instant;
+
+/**
+ * REST representation of a course, without its reviews and students.
+ *
+ * @param id           the ID of the course
+ * @param title        the title of the course
+ * @param createdAt    the creation time of the course
+ * @param instructorId the ID of the instructor, or null if the course has none
+ * @param version      the version of the course
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CourseView(int id, String title, Instant createdAt, Integer instructorId, int version) {
+
+    /**
+     * Copies the state of a loaded course. The instructor proxy is not initialized.
+     *
+     * @param course the course
+     * @return the view of the course
+     */
+    public static CourseView from(Course course) {
+        return new CourseView(course.getId(), course.getTitle(), course.getCreatedAt(),
+                course.getInstructor() == null ? null : course.getInstructor().getId(), course.getVersion());
+    }
+}
@@ -0,0 +1,14 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+/**
+ * Number of courses taught by an instructor, read from the reporting summary table.
+ *
+ * @param instructorId the ID of the instructor
+ * @param firstName    the first name of the instructor
+ * @param lastName     the last name of the instructor
+ * @param courseCount  the number of courses of the instructor
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record InstructorCourseCount(int instructorId, String firstName, String lastName, long courseCount) {
+}
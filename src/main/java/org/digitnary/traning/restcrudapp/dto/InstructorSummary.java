@@ -0,0 +1,15 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+/**
+ * Read-only list view of an instructor, built straight from a query projection.
+ *
+ * @param id          the ID of the instructor
+ * @param firstName   the first name of the instructor
+ * @param lastName    the last name of the instructor
+ * @param email       the email of the instructor
+ * @param courseCount the number of courses the instructor teaches
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record InstructorSummary(int id, String firstName, String lastName, String email, long courseCount) {
+}
@@ -0,0 +1,34 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+
+/**
+ * REST representation of an instructor and their detail.
+ *
+ * @param id             the ID of the instructor
+ * @param firstName      the first name of the instructor
+ * @param lastName       the last name of the instructor
+ * @param email          the email of the instructor
+ * @param youtubeChannel the YouTube channel of the instructor, or null without detail
+ * @param hobby          the hobby of the instructor, or null without detail
+ * @param version        the version of the instructor
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record InstructorView(int id, String firstName, String lastName, String email,
+                             String youtubeChannel, String hobby, int version) {
+
+    /**
+     * Copies the state of a loaded instructor.
+     *
+     * @param instructor the instructor, with its detail loaded
+     * @return the view of the instructor
+     */
+    public static InstructorView from(Instructor instructor) {
+        InstructorDetail detail = instructor.getDetail();
+        return new InstructorView(instructor.getId(), instructor.getFirstName(), instructor.getLastName(),
+                instructor.getEmail(), detail == null ? null : detail.getYoutubeChannel(),
+                detail == null ? null : detail.getHobby(), instructor.getVersion());
+    }
+}
@@ -0,0 +1,14 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+/**
+ * A review matching a full-text search.
+ *
+ * @param id       the ID of the review
+ * @param courseId the ID of the reviewed course
+ * @param comment  the comment of the review
+ * @param rank     the relevance of the comment to the search, higher is better
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record ReviewHit(int id, Integer courseId, String comment, float rank) {
+}
@@ -0,0 +1,24 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+import org.digitnary.traning.restcrudapp.entity.Review;
+
+/**
+ * REST representation of a course review.
+ *
+ * @param id      the ID of the review
+ * @param comment the comment of the review
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record ReviewView(int id, String comment) {
+
+    /**
+     * Copies the state of a loaded review.
+     *
+     * @param review the review
+     * @return the view of the review
+     */
+    public static ReviewView from(Review review) {
+        return new ReviewView(review.getId(), review.getComment());
+    }
+}
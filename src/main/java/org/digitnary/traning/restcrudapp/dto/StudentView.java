@@ -0,0 +1,28 @@
+package org.digitnary.traning.restcrudapp.dto;
+
+import org.digitnary.traning.restcrudapp.entity.Student;
+
+/**
+ * REST representation of a student, without their courses.
+ *
+ * @param id        the ID of the student
+ * @param firstName the first name of the student
+ * @param lastName  the last name of the student
+ * @param email     the email of the student
+ * @param version   the version of the student
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record StudentView(int id, String firstName, String lastName, String email, int version) {
+
+    /**
+     * Copies the state of a loaded student.
+     *
+     * @param student the student
+     * @return the view of the student
+     */
+    public static StudentView from(Student student) {
+        return new StudentView(student.getId(), student.getFirstName(), student.getLastName(), student.getEmail(),
+                student.getVersion());
+    }
+}
@@ -1,6 +1,12 @@
 package org.digitnary.traning.restcrudapp.entity;
 
 import jakarta.persistence.*;
+import org.digitnary.traning.restcrudapp.entity.id.PooledSequence;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.collection.spi.PersistentCollection;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -13,11 +19,15 @@ import java.util.Set;
  * @since  19/7/2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 @Table(name = "Courses")
 public class Course {
 
     private int id;
     private String title;
+    private Instant createdAt;
+    private int version;
     private Instructor instructor;
     private List<Review> reviews;
     private Set<Student> students;
@@ -43,8 +53,7 @@ public class Course {
      * @return the ID of the course
      */
     @Id
-    @GeneratedValue(generator = "CourseIdGenerator", strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(name = "CourseIdGenerator", sequenceName = "Course_Id_Generator", allocationSize = 1)
+    @PooledSequence(sequence = "Course_Id_Generator", entityKey = "course")
     public int getId() {
         return id;
     }
@@ -77,6 +86,46 @@ public class Course {
         this.title = title;
     }
 
+    /**
+     * Gets the time the course was created.
+     *
+     * @return the creation time of the course
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets the time the course was created.
+     *
+     * @param createdAt the new creation time of the course
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Gets the version of the course, incremented by every update.
+     *
+     * @return the version of the course
+     */
+    @Version
+    @Column(name = "version")
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the course.
+     *
+     * @param version the new version of the course
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     /**
      * Gets the instructor of the course.
      *
@@ -107,8 +156,7 @@ public class Course {
      *
      * @return the reviews of the course
      */
-    @OneToMany(fetch = FetchType.LAZY, cascade = CascadeType.ALL)
-    @JoinColumn(name = "course_id")
+    @OneToMany(mappedBy = "course", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     public List<Review> getReviews() {
         return reviews;
     }
@@ -153,6 +201,11 @@ public class Course {
 
     /**
      * Adds a review to the course.
+     * The review owns the {@code course_id} column, so it is linked back to this course
+     * and written with a single insert. With bytecode association management the link back
+     * already adds the review to the list. A loaded course's persistent list is therefore left alone,
+     * since searching it would load every review; a new list is searched by identity.
+     * Built with {@code -DskipEnhancement}, a loaded course's list shows the review only once reloaded.
      *
      * @param review the review to add
      */
@@ -160,11 +213,16 @@ public class Course {
         if (reviews == null) {
             reviews = new ArrayList<>();
         }
-        reviews.add(review);
+        review.setCourse(this);
+        if (!(reviews instanceof PersistentCollection<?>) && reviews.stream().noneMatch(added -> added == review)) {
+            reviews.add(review);
+        }
     }
 
     /**
      * Adds a student to the course.
+     * This loads all enrolled students; to enroll a student in an existing course use
+     * {@code InstructorDao.enroll}, which only writes the join-table row.
      *
      * @param student the student to add
      */
@@ -175,6 +233,34 @@ public class Course {
         students.add(student);
     }
 
+    /**
+     * Two courses are equal when they have the same generated ID.
+     * A new course without an ID is only equal to itself.
+     *
+     * @param o the object to compare with
+     * @return true if both are the same course
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Course other)) {
+            return false;
+        }
+        return id != 0 && id == other.getId();
+    }
+
+    /**
+     * Returns a constant hash code, so the hash code does not change when the ID is assigned on persist.
+     *
+     * @return the hash code of the course
+     */
+    @Override
+    public int hashCode() {
+        return Course.class.hashCode();
+    }
+
     /**
      * Returns a string representation of the course.
      *
@@ -1,6 +1,11 @@
 package org.digitnary.traning.restcrudapp.entity;
 
 import jakarta.persistence.*;
+import org.digitnary.traning.restcrudapp.entity.id.PooledSequence;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import jakarta.validation.constraints.Email;
 import java.util.HashSet;
 import java.util.Set;
@@ -12,13 +17,21 @@ import java.util.Set;
  * @since 19/7/2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "instructor")
+@NaturalIdCache(region = "instructor-email")
 @Table(name = "Instructor")
+@NamedEntityGraph(name = "Instructor.courses", attributeNodes = {
+        @NamedAttributeNode("detail"),
+        @NamedAttributeNode("courses")
+})
 public class Instructor {
 
     private int id;
     private String firstName;
     private String lastName;
     private String email;
+    private int version;
     private InstructorDetail detail;
     private Set<Course> courses;
 
@@ -28,8 +41,7 @@ public class Instructor {
      * @return the ID of the instructor
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "InstructorSeq")
-    @SequenceGenerator(name = "InstructorSeq", sequenceName = "Instructor_Sequence", allocationSize = 1)
+    @PooledSequence(sequence = "Instructor_Sequence", entityKey = "instructor")
     @Column(name = "ID")
     public int getId() {
         return id;
@@ -84,9 +96,11 @@ public class Instructor {
 
     /**
      * Gets the email of the instructor.
+     * The email is the natural id of the instructor and is unique.
      *
      * @return the email of the instructor
      */
+    @NaturalId(mutable = true)
     @Column(name = "Email")
     @Email
     public String getEmail() {
@@ -102,6 +116,26 @@ public class Instructor {
         this.email = email;
     }
 
+    /**
+     * Gets the version of the instructor, incremented by every update.
+     *
+     * @return the version of the instructor
+     */
+    @Version
+    @Column(name = "version")
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the instructor.
+     *
+     * @param version the new version of the instructor
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     /**
      * Gets the detail of the instructor.
      *
@@ -124,10 +158,12 @@ public class Instructor {
 
     /**
      * Gets the courses associated with the instructor.
+     * The courses are loaded lazily, use {@code FetchPlan.WITH_COURSES} to load them up front.
      *
      * @return the courses associated with the instructor
      */
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "instructor",
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "instructor-courses")
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "instructor",
             cascade = {
                     CascadeType.DETACH,
                     CascadeType.MERGE,
@@ -196,7 +232,6 @@ public class Instructor {
                 ", lastName='" + lastName + '\'' +
                 ", email='" + email + '\'' +
                 ", detail=" + detail +
-                ", courses=" + courses +
                 '}';
     }
 }
@@ -1,6 +1,9 @@
 package org.digitnary.traning.restcrudapp.entity;
 
 import jakarta.persistence.*;
+import org.digitnary.traning.restcrudapp.entity.id.PooledSequence;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents the detailed information of an instructor.
@@ -8,12 +11,15 @@ import jakarta.persistence.*;
  * @since 19/7/2024
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "instructor-detail")
 @Table(name = "Instructor_Detail")
 public class InstructorDetail {
 
     private int id;
     private String youtubeChannel;
     private String hobby;
+    private int version;
     private Instructor instructor;
 
     /**
@@ -39,8 +45,7 @@ public class InstructorDetail {
      * @return the ID of the InstructorDetail
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "InstructorDetailSeq")
-    @SequenceGenerator(name = "InstructorDetailSeq", sequenceName = "InstructorDetail_Sequence", allocationSize = 1)
+    @PooledSequence(sequence = "InstructorDetail_Sequence", entityKey = "instructor-detail")
     @Column(name = "ID")
     public int getId() {
         return id;
@@ -93,12 +98,35 @@ public class InstructorDetail {
         this.hobby = hobby;
     }
 
+    /**
+     * Gets the version of the InstructorDetail, incremented by every update.
+     *
+     * @return the version of the InstructorDetail
+     */
+    @Version
+    @Column(name = "version")
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the InstructorDetail.
+     *
+     * @param version the new version of the InstructorDetail
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     /**
      * Gets the associated Instructor.
+     * Loaded on first access; this needs bytecode enhancement, without it Hibernate
+     * has to load the inverse side of a one-to-one eagerly. A build with {@code -DskipEnhancement}
+     * therefore silently loads the instructor with every detail again, one extra query each.
      *
      * @return the associated Instructor
      */
-    @OneToOne(mappedBy = "detail", cascade = {
+    @OneToOne(mappedBy = "detail", fetch = FetchType.LAZY, cascade = {
             CascadeType.DETACH,
             CascadeType.MERGE,
             CascadeType.REFRESH,
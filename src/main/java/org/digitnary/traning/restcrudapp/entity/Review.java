@@ -1,6 +1,7 @@
 package org.digitnary.traning.restcrudapp.entity;
 
 import jakarta.persistence.*;
+import org.digitnary.traning.restcrudapp.entity.id.PooledSequence;
 
 /**
  * Represents a review for a course.
@@ -13,6 +14,8 @@ public class Review {
 
     private int id;
     private String comment;
+    private int version;
+    private Course course;
 
     /**
      * Default constructor for Review.
@@ -35,8 +38,7 @@ public class Review {
      * @return the ID of the Review
      */
     @Id
-    @GeneratedValue(generator = "review-generator", strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(name = "review-generator", sequenceName = "course_review_generator", allocationSize = 1)
+    @PooledSequence(sequence = "course_review_generator", entityKey = "review")
     public int getId() {
         return id;
     }
@@ -69,6 +71,46 @@ public class Review {
         this.comment = comment;
     }
 
+    /**
+     * Gets the version of the Review, incremented by every update.
+     *
+     * @return the version of the Review
+     */
+    @Version
+    @Column(name = "version")
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the Review.
+     *
+     * @param version the new version of the Review
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    /**
+     * Gets the course this Review belongs to.
+     *
+     * @return the course of the Review
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    public Course getCourse() {
+        return course;
+    }
+
+    /**
+     * Sets the course this Review belongs to.
+     *
+     * @param course the new course of the Review
+     */
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+
     /**
      * Returns a string representation of the Review.
      *
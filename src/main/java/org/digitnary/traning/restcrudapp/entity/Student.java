@@ -1,6 +1,11 @@
 package org.digitnary.traning.restcrudapp.entity;
 
 import jakarta.persistence.*;
+import org.digitnary.traning.restcrudapp.entity.id.PooledSequence;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -10,6 +15,9 @@ import java.util.Set;
  * @since 1.0
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "student")
+@NaturalIdCache(region = "student-email")
 @Table(name = "students")
 public class Student {
 
@@ -17,6 +25,7 @@ public class Student {
     private String firstName;
     private String lastName;
     private String email;
+    private int version;
     private Set<Course> courses;
 
     /**
@@ -43,8 +52,7 @@ public class Student {
      * @return the ID of the Student
      */
     @Id
-    @GeneratedValue(generator = "std-id-generator", strategy = GenerationType.SEQUENCE)
-    @SequenceGenerator(name = "std-id-generator", sequenceName = "generator_std_id", allocationSize = 1)
+    @PooledSequence(sequence = "generator_std_id", entityKey = "student")
     @Column(name = "Id")
     public int getId() {
         return id;
@@ -99,9 +107,11 @@ public class Student {
 
     /**
      * Gets the email of the Student.
+     * The email is the natural id of the Student and is unique.
      *
      * @return the email of the Student
      */
+    @NaturalId(mutable = true)
     @Column(name = "email")
     public String getEmail() {
         return email;
@@ -116,6 +126,26 @@ public class Student {
         this.email = email;
     }
 
+    /**
+     * Gets the version of the Student, incremented by every update.
+     *
+     * @return the version of the Student
+     */
+    @Version
+    @Column(name = "version")
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the Student.
+     *
+     * @param version the new version of the Student
+     */
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
     /**
      * Gets the courses the Student is enrolled in.
      *
@@ -147,6 +177,8 @@ public class Student {
 
     /**
      * Enrolls the Student in a new course.
+     * This loads all the Student's courses; to enroll an existing Student use
+     * {@code InstructorDao.enroll}, which only writes the join-table row.
      *
      * @param course the course to enroll the Student in
      */
@@ -157,6 +189,34 @@ public class Student {
         courses.add(course);
     }
 
+    /**
+     * Two Students are equal when they have the same generated ID.
+     * A new Student without an ID is only equal to itself.
+     *
+     * @param o the object to compare with
+     * @return true if both are the same Student
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Student other)) {
+            return false;
+        }
+        return id != 0 && id == other.getId();
+    }
+
+    /**
+     * Returns a constant hash code, so the hash code does not change when the ID is assigned on persist.
+     *
+     * @return the hash code of the Student
+     */
+    @Override
+    public int hashCode() {
+        return Student.class.hashCode();
+    }
+
     /**
      * Returns a string representation of the Student.
      *
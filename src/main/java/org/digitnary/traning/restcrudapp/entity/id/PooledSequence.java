@@ -0,0 +1,31 @@
+package org.digitnary.traning.restcrudapp.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated ID from a database sequence through {@link PooledSequenceGenerator},
+ * with the optimizer and block size taken from the {@code app.id.*} settings.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.FIELD})
+public @interface PooledSequence {
+
+    /**
+     * @return the name of the database sequence
+     */
+    String sequence();
+
+    /**
+     * @return the key of the entity's settings, as in {@code app.id.<entity key>.allocation-size}
+     */
+    String entityKey();
+}
@@ -0,0 +1,78 @@
+package org.digitnary.traning.restcrudapp.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Sequence generator whose optimizer and block size are read from the application configuration
+ * instead of being fixed in the mapping annotations.
+ * <p>
+ * Entities select it with {@link PooledSequence}, naming the sequence and an entity key; the block size is
+ * then resolved from {@code app.id.<entity key>.allocation-size}, falling back to {@code app.id.allocation-size}.
+ * The optimizer ({@code pooled}, {@code pooled-lo} or {@code none}) is taken from {@code app.id.optimizer}.
+ * Both are passed to Hibernate through {@code spring.jpa.properties.*}.
+ * <p>
+ * The database sequence must be incremented by the same block size, see {@code db/001-pooled-sequences.sql}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    /**
+     * Prefix of every ID allocation setting.
+     */
+    public static final String SETTINGS_PREFIX = "app.id.";
+
+    /**
+     * Setting that selects the Hibernate optimizer.
+     */
+    public static final String OPTIMIZER_SETTING = SETTINGS_PREFIX + "optimizer";
+
+    /**
+     * Optimizer used when none is configured.
+     */
+    public static final String DEFAULT_OPTIMIZER = "pooled-lo";
+
+    /**
+     * Block size used when none is configured.
+     */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private final PooledSequence config;
+
+    /**
+     * Creates the generator of one {@link PooledSequence} ID; called by Hibernate.
+     *
+     * @param config the annotation on the ID
+     */
+    public PooledSequenceGenerator(PooledSequence config) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Map<String, Object> settings = serviceRegistry.getService(ConfigurationService.class).getSettings();
+        String entityKey = config.entityKey();
+        String optimizer = ConfigurationHelper.getString(OPTIMIZER_SETTING, settings, DEFAULT_OPTIMIZER);
+
+        int allocationSize = ConfigurationHelper.getInt(SETTINGS_PREFIX + "allocation-size", settings, DEFAULT_ALLOCATION_SIZE);
+        allocationSize = ConfigurationHelper.getInt(SETTINGS_PREFIX + entityKey + ".allocation-size", settings, allocationSize);
+        if ("none".equals(optimizer) || allocationSize < 1) {
+            optimizer = "none";
+            allocationSize = 1;
+        }
+
+        parameters.setProperty(SEQUENCE_PARAM, config.sequence());
+        parameters.setProperty(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.setProperty(OPT_PARAM, optimizer);
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
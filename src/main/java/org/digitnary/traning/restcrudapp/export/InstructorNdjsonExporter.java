@@ -0,0 +1,144 @@
+package org.digitnary.traning.restcrudapp.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Streams the instructor, course and review graph as NDJSON, one instructor per line.
+ * <p>
+ * The graph is read through a forward-only cursor over a flat, ordered projection, so no entity
+ * is ever attached to the persistence context and only the current row is held in memory.
+ * Rows arrive grouped by instructor and course and are folded into nested JSON as they are read.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class InstructorNdjsonExporter {
+
+    private static final String GRAPH_QUERY =
+            "SELECT i.id, i.firstName, i.lastName, i.email, c.id, c.title, r.id, r.comment " +
+            "FROM Instructor i LEFT JOIN i.courses c LEFT JOIN c.reviews r " +
+            "ORDER BY i.id, c.id, r.id";
+
+    private final EntityManager em;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+
+    @Autowired
+    public InstructorNdjsonExporter(EntityManager em, ObjectMapper objectMapper,
+                                    @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.em = em;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every instructor with their courses and reviews to the channel.
+     *
+     * @param channel the channel to write NDJSON to, left open
+     * @return the number of instructors written
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public long export(WritableByteChannel channel) throws IOException {
+        return export(Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes every instructor with their courses and reviews to the stream.
+     *
+     * @param out the stream to write NDJSON to, left open
+     * @return the number of instructors written
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public long export(OutputStream out) throws IOException {
+        Session session = em.unwrap(Session.class);
+        long instructors = 0;
+        try (ScrollableResults<Object[]> rows = session.createSelectionQuery(GRAPH_QUERY, Object[].class)
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY);
+             JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.setRootValueSeparator(null);
+
+            Integer instructorId = null;
+            Integer courseId = null;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                Integer rowInstructorId = (Integer) row[0];
+                if (!rowInstructorId.equals(instructorId)) {
+                    if (instructorId != null) {
+                        endInstructor(json, courseId != null);
+                    }
+                    json.writeStartObject();
+                    json.writeNumberField("id", rowInstructorId);
+                    json.writeStringField("firstName", (String) row[1]);
+                    json.writeStringField("lastName", (String) row[2]);
+                    json.writeStringField("email", (String) row[3]);
+                    json.writeArrayFieldStart("courses");
+                    instructorId = rowInstructorId;
+                    courseId = null;
+                    instructors++;
+                    if (instructors % fetchSize == 0) {
+                        json.flush();
+                    }
+                }
+
+                Integer rowCourseId = (Integer) row[4];
+                if (rowCourseId != null && !rowCourseId.equals(courseId)) {
+                    if (courseId != null) {
+                        endCourse(json);
+                    }
+                    json.writeStartObject();
+                    json.writeNumberField("id", rowCourseId);
+                    json.writeStringField("title", (String) row[5]);
+                    json.writeArrayFieldStart("reviews");
+                    courseId = rowCourseId;
+                }
+
+                Integer reviewId = (Integer) row[6];
+                if (reviewId != null) {
+                    json.writeStartObject();
+                    json.writeNumberField("id", reviewId);
+                    json.writeStringField("comment", (String) row[7]);
+                    json.writeEndObject();
+                }
+            }
+            if (instructorId != null) {
+                endInstructor(json, courseId != null);
+            }
+        }
+        return instructors;
+    }
+
+    private void endCourse(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+    }
+
+    private void endInstructor(JsonGenerator json, boolean courseOpen) throws IOException {
+        if (courseOpen) {
+            endCourse(json);
+        }
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+}
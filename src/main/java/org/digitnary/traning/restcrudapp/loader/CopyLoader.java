@@ -0,0 +1,233 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.digitnary.traning.restcrudapp.cache.CacheRegions;
+import org.digitnary.traning.restcrudapp.reporting.ReportingChanges;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads large CSV or NDJSON files into the students, courses, course_reviews and course_student tables
+ * with the PostgreSQL {@code COPY} protocol, bypassing the persistence context entirely.
+ * <p>
+ * Input lines are read in blocks and parsed on a pool of threads, while the calling thread streams the
+ * encoded blocks, in input order, into a temporary staging table. IDs are reserved from the entity
+ * sequences on a second connection, because a connection in the middle of a {@code COPY} cannot run
+ * other statements. A single {@code INSERT ... SELECT} then moves the rows whose foreign keys exist
+ * into the real table, and the whole load commits or rolls back as one transaction.
+ * <p>
+ * Requires PostgreSQL; loaded entities bypass the second-level cache, so cached
+ * instructor course collections are evicted after a course load.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class CopyLoader {
+
+    private final Logger logger = LoggerFactory.getLogger(CopyLoader.class);
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final CacheRegions cacheRegions;
+    private final ReportingChanges reportingChanges;
+    private final SQLExceptionTranslator exceptionTranslator;
+    private final String optimizer;
+    private final int blockSize;
+    private final int parallelism;
+
+    @Autowired
+    public CopyLoader(DataSource dataSource, ObjectMapper objectMapper, CacheRegions cacheRegions,
+                      ReportingChanges reportingChanges,
+                      @Value("${spring.jpa.properties.app.id.optimizer:pooled-lo}") String optimizer,
+                      @Value("${app.loader.block-size:10000}") int blockSize,
+                      @Value("${app.loader.parallelism:0}") int parallelism) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.cacheRegions = cacheRegions;
+        this.reportingChanges = reportingChanges;
+        this.exceptionTranslator = new SQLErrorCodeSQLExceptionTranslator(dataSource);
+        this.optimizer = optimizer;
+        this.blockSize = blockSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Loads a file, picking the format from its extension.
+     *
+     * @param target the table to load
+     * @param input  a {@code .csv}, {@code .ndjson} or {@code .jsonl} file
+     * @return the row counts and throughput of the load
+     * @throws IOException if the file cannot be read
+     */
+    public LoadResult load(LoadTarget target, Path input) throws IOException {
+        try (InputStream in = Files.newInputStream(input)) {
+            return load(target, in, LoadFormat.of(input));
+        }
+    }
+
+    /**
+     * Loads UTF-8 input in the given format.
+     *
+     * @param target the table to load
+     * @param input  the input, left open
+     * @param format the format of the input
+     * @return the row counts and throughput of the load
+     * @throws IOException if the input cannot be read
+     */
+    public LoadResult load(LoadTarget target, InputStream input, LoadFormat format) throws IOException {
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+        RowEncoder encoder = format == LoadFormat.CSV
+                ? RowEncoder.csv(target, reader.readLine())
+                : RowEncoder.ndjson(target, objectMapper);
+        long[] counts = new long[2];
+        long staged;
+        long inserted;
+        try (Connection connection = dataSource.getConnection();
+             Connection sequenceConnection = target.getSequence() == null ? null : dataSource.getConnection();
+             ExecutorService parsers = Executors.newFixedThreadPool(parallelism)) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(target.createStagingSql());
+                }
+                try (SequenceBlocks ids = sequenceConnection == null ? null
+                        : new SequenceBlocks(sequenceConnection, target.getSequence(), optimizer)) {
+                    staged = copy(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(target.copySql()),
+                            reader, format == LoadFormat.CSV, encoder, ids, parsers, counts);
+                }
+                try (Statement statement = connection.createStatement()) {
+                    // temporary tables are never analyzed automatically, the planner needs row counts for the joins
+                    statement.execute("ANALYZE " + target.stagingTable());
+                    inserted = statement.executeUpdate(target.insertSql());
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw exceptionTranslator.translate("COPY load of " + target, target.copySql(), e);
+        }
+        if (target == LoadTarget.COURSES) {
+            cacheRegions.evictInstructorCourses();
+        }
+        if (target != LoadTarget.STUDENTS && inserted > 0) {
+            // rows written outside Hibernate, the next refresh rebuilds every aggregate
+            reportingChanges.everythingChanged();
+        }
+        LoadResult result = new LoadResult(target, counts[0], counts[1], staged, inserted,
+                Duration.ofNanos(System.nanoTime() - started));
+        logger.info("Loaded {} {} of {} records ({} malformed, {} rejected) at {} rows/min", result.inserted(),
+                target, result.read(), result.malformed(), result.rejected(), String.format("%.0f", result.rowsPerMinute()));
+        return result;
+    }
+
+    /**
+     * Streams the input into {@code COPY}, keeping up to twice the parallelism of blocks in flight.
+     * Fills {@code counts} with the records read and the malformed records, and returns the rows copied.
+     */
+    private long copy(CopyIn copyIn, BufferedReader reader, boolean csv, RowEncoder encoder, SequenceBlocks ids,
+                      ExecutorService parsers, long[] counts) throws IOException, SQLException {
+        Deque<Future<RowEncoder.Encoded>> inFlight = new ArrayDeque<>();
+        try {
+            List<String> block;
+            while (!(block = readBlock(reader, csv)).isEmpty()) {
+                counts[0] += block.size();
+                List<String> lines = block;
+                int[] blockIds = ids == null ? null : ids.next(lines.size());
+                inFlight.add(parsers.submit(() -> encoder.encode(lines, blockIds)));
+                if (inFlight.size() >= parallelism * 2) {
+                    write(copyIn, inFlight.removeFirst(), counts);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                write(copyIn, inFlight.removeFirst(), counts);
+            }
+            return copyIn.endCopy();
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void write(CopyIn copyIn, Future<RowEncoder.Encoded> pending, long[] counts) throws SQLException {
+        RowEncoder.Encoded encoded;
+        try {
+            encoded = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing input", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse input", e.getCause());
+        }
+        counts[1] += encoded.malformed();
+        copyIn.writeToCopy(encoded.csv(), 0, encoded.csv().length);
+    }
+
+    /**
+     * Reads up to {@code app.loader.block-size} records. A CSV record continues on the next line while
+     * a quoted value is open, so values may contain line breaks (read back as {@code \n}).
+     */
+    private List<String> readBlock(BufferedReader reader, boolean csv) throws IOException {
+        List<String> block = new ArrayList<>(blockSize);
+        String line;
+        while (block.size() < blockSize && (line = reader.readLine()) != null) {
+            if (csv && hasOpenQuote(line)) {
+                StringBuilder record = new StringBuilder(line);
+                String next;
+                while (hasOpenQuote(record) && (next = reader.readLine()) != null) {
+                    record.append('\n').append(next);
+                }
+                line = record.toString();
+            }
+            if (!line.isBlank()) {
+                block.add(line);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Whether a CSV text ends inside a quoted value; {@code ""} escapes count as two quotes.
+     */
+    static boolean hasOpenQuote(CharSequence text) {
+        int quotes = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '"') {
+                quotes++;
+            }
+        }
+        return quotes % 2 == 1;
+    }
+}
@@ -0,0 +1,41 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import java.nio.file.Path;
+
+/**
+ * Input formats understood by the {@link CopyLoader}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public enum LoadFormat {
+
+    /**
+     * Comma-separated values with a header line naming the fields, e.g. {@code firstName,lastName,email}.
+     * Values may be quoted, and a quoted value may span lines.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line, e.g. {@code {"firstName": "Ada", "lastName": "Lovelace", "email": "ada@example.com"}}.
+     */
+    NDJSON;
+
+    /**
+     * Picks the format from the file extension, {@code .csv} or {@code .ndjson}/{@code .jsonl}.
+     *
+     * @param file the input file
+     * @return the format of the file
+     * @throws IllegalArgumentException for any other extension
+     */
+    public static LoadFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unknown input format: " + file);
+    }
+}
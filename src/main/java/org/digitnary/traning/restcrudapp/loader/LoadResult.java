@@ -0,0 +1,32 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one {@link CopyLoader} run.
+ *
+ * @param target    the loaded table
+ * @param read      the number of non-blank input records (lines, or CSV records spanning lines)
+ * @param malformed the records skipped because a value was missing or not a number
+ * @param staged    the rows copied into the staging table
+ * @param inserted  the rows inserted into the target table
+ * @param elapsed   the wall-clock time of the run
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record LoadResult(LoadTarget target, long read, long malformed, long staged, long inserted, Duration elapsed) {
+
+    /**
+     * @return the staged rows that failed foreign-key or uniqueness validation
+     */
+    public long rejected() {
+        return staged - inserted;
+    }
+
+    /**
+     * @return the number of rows inserted per minute
+     */
+    public double rowsPerMinute() {
+        return elapsed.isZero() ? inserted : inserted * 60e9 / elapsed.toNanos();
+    }
+}
@@ -0,0 +1,116 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The tables the {@link CopyLoader} can load, with their input fields and the statement that moves
+ * validated rows from the staging table into the real one.
+ * <p>
+ * Rows whose foreign keys point nowhere, and students whose email already exists, are left behind
+ * in the staging table and reported as rejected.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public enum LoadTarget {
+
+    /**
+     * Students, input fields {@code firstName}, {@code lastName} and {@code email}.
+     */
+    STUDENTS("generator_std_id",
+            List.of(Field.text("firstName", "first_name", false), Field.text("lastName", "last_name", false),
+                    Field.text("email", "email", true)),
+            "INSERT INTO students (id, first_name, last_name, email, version) " +
+            "SELECT s.id, s.first_name, s.last_name, s.email, 0 FROM %s s ON CONFLICT DO NOTHING"),
+
+    /**
+     * Courses, input fields {@code title} and the optional {@code instructorId}.
+     */
+    COURSES("course_id_generator",
+            List.of(Field.text("title", "title", true), Field.integer("instructorId", "instructor_id", false)),
+            "INSERT INTO courses (id, title, instructor_id, created_at, version) " +
+            "SELECT s.id, s.title, s.instructor_id, now(), 0 FROM %s s " +
+            "WHERE s.instructor_id IS NULL OR EXISTS (SELECT 1 FROM instructor i WHERE i.id = s.instructor_id)"),
+
+    /**
+     * Course reviews, input fields {@code comment} and {@code courseId}.
+     */
+    REVIEWS("course_review_generator",
+            List.of(Field.text("comment", "comment", false), Field.integer("courseId", "course_id", true)),
+            "INSERT INTO course_reviews (id, comment, course_id, version) " +
+            "SELECT s.id, s.comment, s.course_id, 0 FROM %s s " +
+            "WHERE EXISTS (SELECT 1 FROM courses c WHERE c.id = s.course_id)"),
+
+    /**
+     * Enrollments, input fields {@code courseId} and {@code studentId}. Existing enrollments are skipped.
+     */
+    ENROLLMENTS(null,
+            List.of(Field.integer("courseId", "course_id", true), Field.integer("studentId", "student_id", true)),
+            "INSERT INTO course_student (course_id, student_id) " +
+            "SELECT DISTINCT s.course_id, s.student_id FROM %s s " +
+            "WHERE EXISTS (SELECT 1 FROM courses c WHERE c.id = s.course_id) " +
+            "AND EXISTS (SELECT 1 FROM students t WHERE t.id = s.student_id) " +
+            "AND NOT EXISTS (SELECT 1 FROM course_student cs " +
+            "WHERE cs.course_id = s.course_id AND cs.student_id = s.student_id) ON CONFLICT DO NOTHING");
+
+    private final String sequence;
+    private final List<Field> fields;
+    private final String insertSql;
+
+    LoadTarget(String sequence, List<Field> fields, String insertSql) {
+        this.sequence = sequence;
+        this.fields = fields;
+        this.insertSql = insertSql;
+    }
+
+    /**
+     * @return the sequence the IDs are allocated from, or null if the table has no generated ID
+     */
+    public String getSequence() {
+        return sequence;
+    }
+
+    List<Field> fields() {
+        return fields;
+    }
+
+    String stagingTable() {
+        return "load_" + name().toLowerCase();
+    }
+
+    String createStagingSql() {
+        String columns = fields.stream().map(f -> f.column() + (f.integer() ? " integer" : " text"))
+                .collect(Collectors.joining(", "));
+        return "CREATE TEMP TABLE " + stagingTable() + " (" + (sequence == null ? "" : "id integer, ") + columns
+                + ") ON COMMIT DROP";
+    }
+
+    String copySql() {
+        String columns = fields.stream().map(Field::column).collect(Collectors.joining(", "));
+        return "COPY " + stagingTable() + " (" + (sequence == null ? "" : "id, ") + columns + ") FROM STDIN WITH (FORMAT csv)";
+    }
+
+    String insertSql() {
+        return insertSql.formatted(stagingTable());
+    }
+
+    /**
+     * One input field and the staging column it is copied to.
+     *
+     * @param name     the CSV header or JSON property name
+     * @param column   the staging column
+     * @param integer  whether the value is an integer, otherwise text
+     * @param required whether rows without the value are malformed
+     */
+    record Field(String name, String column, boolean integer, boolean required) {
+
+        static Field text(String name, String column, boolean required) {
+            return new Field(name, column, false, required);
+        }
+
+        static Field integer(String name, String column, boolean required) {
+            return new Field(name, column, true, required);
+        }
+    }
+}
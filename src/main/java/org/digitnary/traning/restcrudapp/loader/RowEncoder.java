@@ -0,0 +1,199 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns input lines into the CSV rows {@code COPY} reads into the staging table.
+ * Instances are stateless and shared by the parser threads.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+final class RowEncoder {
+
+    private final List<LoadTarget.Field> fields;
+    private final int[] csvPositions;
+    private final ObjectMapper objectMapper;
+
+    private RowEncoder(List<LoadTarget.Field> fields, int[] csvPositions, ObjectMapper objectMapper) {
+        this.fields = fields;
+        this.csvPositions = csvPositions;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param target the loaded table
+     * @param header the CSV header line
+     * @return an encoder for CSV lines with that header
+     * @throws IllegalArgumentException if the header lacks a required field
+     */
+    static RowEncoder csv(LoadTarget target, String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input has no header line");
+        }
+        List<String> names = splitCsv(header);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i).strip(), i);
+        }
+        int[] csvPositions = new int[target.fields().size()];
+        for (int i = 0; i < csvPositions.length; i++) {
+            LoadTarget.Field field = target.fields().get(i);
+            csvPositions[i] = positions.getOrDefault(field.name(), -1);
+            if (csvPositions[i] < 0 && field.required()) {
+                throw new IllegalArgumentException("CSV header lacks required field " + field.name() + ": " + header);
+            }
+        }
+        return new RowEncoder(target.fields(), csvPositions, null);
+    }
+
+    /**
+     * @param target       the loaded table
+     * @param objectMapper parses each line
+     * @return an encoder for NDJSON lines
+     */
+    static RowEncoder ndjson(LoadTarget target, ObjectMapper objectMapper) {
+        return new RowEncoder(target.fields(), null, objectMapper);
+    }
+
+    /**
+     * Encodes a block of lines.
+     *
+     * @param lines the non-blank input lines
+     * @param ids   the IDs for the lines, or null if the table has no generated ID
+     * @return the encoded rows and the number of malformed lines skipped
+     */
+    Encoded encode(List<String> lines, int[] ids) {
+        StringBuilder out = new StringBuilder(lines.size() * 64);
+        String[] values = new String[fields.size()];
+        int rows = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            if (!read(lines.get(i), values)) {
+                continue;
+            }
+            if (ids != null) {
+                out.append(ids[i]).append(',');
+            }
+            for (int f = 0; f < values.length; f++) {
+                if (f > 0) {
+                    out.append(',');
+                }
+                appendValue(out, fields.get(f), values[f]);
+            }
+            out.append('\n');
+            rows++;
+        }
+        return new Encoded(out.toString().getBytes(StandardCharsets.UTF_8), rows, lines.size() - rows);
+    }
+
+    /**
+     * Reads the field values of one line, in field order. Returns false if the line is malformed.
+     */
+    private boolean read(String line, String[] values) {
+        if (csvPositions != null) {
+            List<String> columns = splitCsv(line);
+            for (int f = 0; f < values.length; f++) {
+                int position = csvPositions[f];
+                values[f] = position < 0 || position >= columns.size() ? null : columns.get(position);
+            }
+        } else {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                return false;
+            }
+            for (int f = 0; f < values.length; f++) {
+                JsonNode value = node.get(fields.get(f).name());
+                values[f] = value == null || value.isNull() ? null : value.asText();
+            }
+        }
+        for (int f = 0; f < values.length; f++) {
+            LoadTarget.Field field = fields.get(f);
+            if (values[f] != null && values[f].isEmpty()) {
+                values[f] = null;
+            }
+            if (values[f] == null ? field.required() : field.integer() && !isInteger(values[f])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendValue(StringBuilder out, LoadTarget.Field field, String value) {
+        if (value == null) {
+            return;
+        }
+        if (field.integer()) {
+            out.append(value.strip());
+            return;
+        }
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.append('"');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    private static boolean isInteger(String value) {
+        try {
+            Integer.parseInt(value.strip());
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted values with {@code ""} escapes.
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    /**
+     * One encoded block.
+     *
+     * @param csv       the rows, ready for {@code COPY ... WITH (FORMAT csv)}
+     * @param rows      the number of rows encoded
+     * @param malformed the number of lines skipped
+     */
+    record Encoded(byte[] csv, int rows, int malformed) {
+    }
+}
@@ -0,0 +1,103 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hands out IDs from a database sequence in the same blocks Hibernate's pooled optimizers use,
+ * so loaded rows and rows persisted by the application never collide.
+ * Each {@code nextval} reserves {@code INCREMENT BY} IDs; all the blocks needed for an input block
+ * are fetched in one round trip. With {@code pooled} a value is the top of its block, and, as in
+ * Hibernate's {@code PooledOptimizer}, a block never reaches below the sequence's start value, so the
+ * first value of a fresh sequence yields that single ID rather than zero or negative ones.
+ * Holds a prepared statement on the given connection until closed.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+final class SequenceBlocks implements AutoCloseable {
+
+    private final PreparedStatement nextValues;
+    private final int increment;
+    private final long startValue;
+    private final boolean hiValues;
+    private final Deque<long[]> blocks = new ArrayDeque<>();
+    private long next;
+    private long end;
+
+    /**
+     * @param connection a connection used only for the sequence, in auto-commit mode
+     * @param sequence   the sequence name
+     * @param optimizer  the Hibernate optimizer in use, {@code pooled} treats a value as the top of its block
+     * @throws SQLException if the sequence does not exist
+     */
+    SequenceBlocks(Connection connection, String sequence, String optimizer) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT increment_by, start_value FROM pg_sequences WHERE sequencename = ?")) {
+            query.setString(1, sequence.toLowerCase());
+            try (ResultSet rs = query.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Sequence " + sequence + " not found");
+                }
+                this.increment = rs.getInt(1);
+                this.startValue = rs.getLong(2);
+            }
+        }
+        this.hiValues = "pooled".equals(optimizer);
+        this.nextValues = connection.prepareStatement("SELECT nextval(?::regclass) FROM generate_series(1, ?)");
+        this.nextValues.setString(1, sequence.toLowerCase());
+    }
+
+    /**
+     * Allocates the next IDs. IDs left over from a block are used by the next call.
+     *
+     * @param count the number of IDs
+     * @return the IDs, ascending within each block
+     * @throws SQLException if the sequence cannot be read
+     */
+    int[] next(int count) throws SQLException {
+        int[] ids = new int[count];
+        int filled = 0;
+        while (filled < count) {
+            if (next == end) {
+                if (blocks.isEmpty()) {
+                    fetch((count - filled + increment - 1) / increment);
+                }
+                long[] block = blocks.poll();
+                next = block[0];
+                end = block[1];
+            }
+            while (filled < count && next < end) {
+                ids[filled++] = Math.toIntExact(next++);
+            }
+        }
+        return ids;
+    }
+
+    private void fetch(int count) throws SQLException {
+        nextValues.setInt(2, count);
+        try (ResultSet rs = nextValues.executeQuery()) {
+            while (rs.next()) {
+                long value = rs.getLong(1);
+                // {first, end exclusive}
+                blocks.add(hiValues
+                        ? new long[]{Math.max(value - increment + 1, startValue), value + 1}
+                        : new long[]{value, value + increment});
+            }
+        }
+    }
+
+    /**
+     * Closes the {@code nextval} statement; the connection stays open.
+     *
+     * @throws SQLException if the statement cannot be closed
+     */
+    @Override
+    public void close() throws SQLException {
+        nextValues.close();
+    }
+}
@@ -0,0 +1,53 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.digitnary.traning.restcrudapp.cache.CacheRegionStats;
+import org.digitnary.traning.restcrudapp.cache.CacheRegions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the second-level and query cache counters of {@link CacheRegions} as
+ * {@code hibernate.cache.*} meters tagged by region.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final CacheRegions cacheRegions;
+
+    @Autowired
+    public CacheMetrics(CacheRegions cacheRegions) {
+        this.cacheRegions = cacheRegions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : cacheRegions.stats().keySet()) {
+            bind(registry, region, r -> cacheRegions.stats().get(r));
+        }
+        bind(registry, CacheRegions.INSTRUCTOR_LOOKUPS, r -> cacheRegions.lookupStats());
+    }
+
+    private void bind(MeterRegistry registry, String region, Function<String, CacheRegionStats> stats) {
+        counter(registry, "hibernate.cache.hits", region, r -> stats.apply(r).hits());
+        counter(registry, "hibernate.cache.misses", region, r -> stats.apply(r).misses());
+        counter(registry, "hibernate.cache.puts", region, r -> stats.apply(r).puts());
+        counter(registry, "hibernate.cache.evictions", region, r -> stats.apply(r).evictions());
+        Gauge.builder("hibernate.cache.hit.ratio", region, r -> stats.apply(r).hitRatio())
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String name, String region, ToDoubleFunction<String> value) {
+        FunctionCounter.builder(name, region, value).tag("region", region).register(registry);
+    }
+}
@@ -0,0 +1,149 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread counters of the DAO call currently in progress.
+ * Hibernate callbacks ({@link StatementCountingInspector}, {@link EntityLoadCountingIntegrator})
+ * increment the counters of whatever call is open on their thread, if any.
+ * <p>
+ * The statement total covers the whole call. The guard counters (statements and SELECT shapes) are
+ * kept per transaction, so a call that commits many chunks, such as a purge, is judged chunk by chunk
+ * and reports the worst one.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public final class DaoCallContext {
+
+    private static final ThreadLocal<DaoCallContext> CURRENT = new ThreadLocal<>();
+
+    private final String method;
+    private int statements;
+    private int entitiesLoaded;
+    private int transactionStatements;
+    private int peakTransactionStatements;
+    private final Map<String, Integer> selectShapes = new HashMap<>();
+    private final Map<String, Integer> peakSelectShapes = new HashMap<>();
+    private TransactionSynchronization transactionEnd;
+
+    private DaoCallContext(String method) {
+        this.method = method;
+    }
+
+    /**
+     * Opens a context for a DAO call on the current thread.
+     *
+     * @param method the name of the DAO method being called
+     * @return the new context, or null if a call is already open on this thread
+     */
+    public static DaoCallContext open(String method) {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        DaoCallContext context = new DaoCallContext(method);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * Gets the context of the DAO call in progress on the current thread.
+     *
+     * @return the open context, or null outside a DAO call
+     */
+    public static DaoCallContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Closes this context, detaching it from the current thread.
+     */
+    public void close() {
+        CURRENT.remove();
+    }
+
+    void statementPrepared(String sql) {
+        watchTransactionEnd();
+        statements++;
+        transactionStatements++;
+        String shape = SqlShapes.normalize(sql);
+        if (SqlShapes.isNPlusOneCandidate(shape)) {
+            selectShapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Registers a callback that closes the guard counters when the transaction running this
+     * statement completes, unless one is registered with that transaction already.
+     */
+    private void watchTransactionEnd() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || (transactionEnd != null && TransactionSynchronizationManager.getSynchronizations().contains(transactionEnd))) {
+            return;
+        }
+        transactionEnd = new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                endTransaction();
+            }
+        };
+        TransactionSynchronizationManager.registerSynchronization(transactionEnd);
+    }
+
+    private void endTransaction() {
+        peakTransactionStatements = Math.max(peakTransactionStatements, transactionStatements);
+        transactionStatements = 0;
+        selectShapes.forEach((shape, count) -> peakSelectShapes.merge(shape, count, Math::max));
+        selectShapes.clear();
+        transactionEnd = null;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    /**
+     * @return the name of the DAO method being called
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the number of JDBC statements prepared so far during this call
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    /**
+     * @return the most JDBC statements prepared within one transaction of this call so far
+     */
+    public int getMaxStatementsPerTransaction() {
+        return Math.max(peakTransactionStatements, transactionStatements);
+    }
+
+    /**
+     * @return the number of entities hydrated from JDBC results so far during this call
+     */
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    /**
+     * Finds the SELECT shapes issued more than {@code threshold} times within one transaction of this call.
+     *
+     * @param threshold the number of repeats that is still acceptable
+     * @return the N+1 candidate shapes with their highest per-transaction counts
+     */
+    public Map<String, Integer> repeatedSelects(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>(peakSelectShapes);
+        selectShapes.forEach((shape, count) -> repeated.merge(shape, count, Math::max));
+        repeated.values().removeIf(count -> count <= threshold);
+        return repeated;
+    }
+}
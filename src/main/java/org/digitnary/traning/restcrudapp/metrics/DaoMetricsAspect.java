@@ -0,0 +1,104 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.digitnary.traning.restcrudapp.dao.BulkImportResult;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dao.PurgeProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Records latency, JDBC statements, entities loaded and rows returned for every {@code InstructorDao} call.
+ * <p>
+ * Runs outside the DAO transaction, so statements issued at flush and commit are counted
+ * against the method that caused them. Meters are tagged with the DAO method name:
+ * {@code dao.calls} (timer), {@code dao.statements}, {@code dao.entities.loaded} and {@code dao.rows.returned}.
+ * Successful calls are then checked by the {@link QueryGuard}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Aspect
+@Component
+@Order(0)
+public class DaoMetricsAspect {
+
+    private final MeterRegistry registry;
+    private final QueryGuard queryGuard;
+
+    @Autowired
+    public DaoMetricsAspect(MeterRegistry registry, QueryGuard queryGuard) {
+        this.registry = registry;
+        this.queryGuard = queryGuard;
+    }
+
+    /**
+     * Measures one DAO call.
+     *
+     * @param call the intercepted call
+     * @return the result of the call
+     * @throws Throwable whatever the DAO method throws
+     */
+    @Around("execution(* org.digitnary.traning.restcrudapp.dao.InstructorDao.*(..))")
+    public Object measure(ProceedingJoinPoint call) throws Throwable {
+        String method = call.getSignature().getName();
+        DaoCallContext context = DaoCallContext.open(method);
+        if (context == null) {
+            return call.proceed();
+        }
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        long rows = 0;
+        Object result;
+        try {
+            result = call.proceed();
+            rows = rowsOf(result);
+        } catch (Throwable t) {
+            outcome = t.getClass().getSimpleName();
+            throw t;
+        } finally {
+            context.close();
+            sample.stop(Timer.builder("dao.calls")
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(registry));
+            summary("dao.statements", method).record(context.getStatements());
+            summary("dao.entities.loaded", method).record(context.getEntitiesLoaded());
+            summary("dao.rows.returned", method).record(rows);
+        }
+        queryGuard.check(context);
+        return result;
+    }
+
+    private DistributionSummary summary(String name, String method) {
+        return DistributionSummary.builder(name).tag("method", method).register(registry);
+    }
+
+    private static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof KeysetPage<?> page) {
+            return page.content().size();
+        }
+        if (result instanceof BulkImportResult imported) {
+            return imported.rows();
+        }
+        if (result instanceof PurgeProgress purged) {
+            return purged.deleted();
+        }
+        return 1;
+    }
+}
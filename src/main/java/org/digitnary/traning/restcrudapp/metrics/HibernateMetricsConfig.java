@@ -0,0 +1,48 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Hooks the DAO metrics callbacks into Hibernate.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Configuration
+public class HibernateMetricsConfig {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    /**
+     * Registers {@link StatementCountingInspector}, chained in front of any configured inspector,
+     * and {@link EntityLoadCountingIntegrator}.
+     *
+     * @return the customizer applied to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer daoMetricsCustomizer() {
+        return properties -> {
+            StatementInspector configured = resolve(properties.get(AvailableSettings.STATEMENT_INSPECTOR));
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector(configured));
+            properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(new EntityLoadCountingIntegrator()));
+        };
+    }
+
+    private static StatementInspector resolve(Object configured) {
+        if (configured == null || configured instanceof StatementInspector) {
+            return (StatementInspector) configured;
+        }
+        Class<?> type = configured instanceof Class<?> c ? c
+                : ClassUtils.resolveClassName(configured.toString(), HibernateMetricsConfig.class.getClassLoader());
+        return (StatementInspector) BeanUtils.instantiateClass(type);
+    }
+}
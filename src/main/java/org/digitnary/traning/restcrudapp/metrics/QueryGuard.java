@@ -0,0 +1,75 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inspects the statements of each finished DAO call for N+1 candidates (the same SELECT shape
+ * more than {@code app.query-guard.repeat-threshold} times in one transaction) and, optionally, for
+ * more than {@code app.query-guard.max-statements} statements in one transaction. Calls that commit
+ * in chunks are judged by their largest chunk.
+ * <p>
+ * {@code app.query-guard.mode} selects what happens on a violation: {@code OFF}, {@code WARN}
+ * (log it, the default) or {@code FAIL} (throw {@link QueryGuardException}, for tests and CI).
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class QueryGuard {
+
+    /**
+     * What to do when a DAO call violates the guard.
+     */
+    public enum Mode {
+        OFF, WARN, FAIL
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(QueryGuard.class);
+    private final Mode mode;
+    private final int repeatThreshold;
+    private final int maxStatements;
+
+    @Autowired
+    public QueryGuard(@Value("${app.query-guard.mode:WARN}") Mode mode,
+                      @Value("${app.query-guard.repeat-threshold:5}") int repeatThreshold,
+                      @Value("${app.query-guard.max-statements:0}") int maxStatements) {
+        this.mode = mode;
+        this.repeatThreshold = repeatThreshold;
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * Checks a finished DAO call.
+     *
+     * @param context the counters of the call
+     * @throws QueryGuardException in {@code FAIL} mode if the call violates the guard
+     */
+    public void check(DaoCallContext context) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        List<String> violations = new ArrayList<>();
+        if (maxStatements > 0 && context.getMaxStatementsPerTransaction() > maxStatements) {
+            violations.add(context.getMaxStatementsPerTransaction() + " statements in one transaction, budget is " + maxStatements);
+        }
+        for (Map.Entry<String, Integer> shape : context.repeatedSelects(repeatThreshold).entrySet()) {
+            violations.add("possible N+1, " + shape.getValue() + "x: " + shape.getKey());
+        }
+        if (violations.isEmpty()) {
+            return;
+        }
+        String message = "InstructorDao." + context.getMethod() + ": " + String.join("; ", violations);
+        if (mode == Mode.FAIL) {
+            throw new QueryGuardException(message);
+        }
+        logger.warn(message);
+    }
+}
@@ -0,0 +1,18 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+/**
+ * Thrown by {@link QueryGuard} in {@code FAIL} mode when a DAO call breaks its query budget
+ * or repeats the same SELECT shape.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class QueryGuardException extends RuntimeException {
+
+    /**
+     * @param message a description of the violation
+     */
+    public QueryGuardException(String message) {
+        super(message);
+    }
+}
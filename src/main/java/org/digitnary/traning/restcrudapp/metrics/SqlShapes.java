@@ -0,0 +1,67 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Reduces SQL statements to their shape, so statements that differ only in literals or
+ * IN-list length compare equal. The same SELECT shape issued again and again within one
+ * unit of work is the signature of an N+1 access pattern.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public final class SqlShapes {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapes() {
+    }
+
+    /**
+     * Normalizes a statement to its shape.
+     *
+     * @param sql the statement
+     * @return the lower-cased statement with literals replaced by {@code ?} and IN-lists collapsed
+     */
+    public static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+
+    /**
+     * Tells whether a shape can be part of an N+1 pattern: reads only, excluding sequence calls
+     * that pooled ID allocation legitimately repeats.
+     *
+     * @param shape a normalized statement
+     * @return true if repeats of this shape are suspicious
+     */
+    public static boolean isNPlusOneCandidate(String shape) {
+        return shape.startsWith("select") && !shape.contains("nextval") && !shape.contains("next value for");
+    }
+
+    /**
+     * Counts the N+1 candidate shapes issued more than {@code threshold} times.
+     *
+     * @param statements the statements to analyse
+     * @param threshold the number of repeats that is still acceptable
+     * @return the offending shapes with their counts
+     */
+    public static Map<String, Integer> repeatedSelects(Iterable<String> statements, int threshold) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String sql : statements) {
+            String shape = normalize(sql);
+            if (isNPlusOneCandidate(shape)) {
+                counts.merge(shape, 1, Integer::sum);
+            }
+        }
+        counts.values().removeIf(count -> count <= threshold);
+        return counts;
+    }
+}
@@ -0,0 +1,33 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the DAO call in progress.
+ * A statement inspector configured through {@code hibernate.session_factory.statement_inspector}
+ * keeps working: it is called first and its result is what gets prepared.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final StatementInspector delegate;
+
+    /**
+     * @param delegate an inspector to chain to, or null
+     */
+    public StatementCountingInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        String inspected = delegate == null ? sql : delegate.inspect(sql);
+        DaoCallContext context = DaoCallContext.current();
+        if (context != null) {
+            context.statementPrepared(inspected);
+        }
+        return inspected;
+    }
+}
@@ -0,0 +1,157 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the reporting summary tables up to date.
+ * <p>
+ * Every {@code app.reporting.refresh-interval-ms} the courses and instructors recorded by
+ * {@link ReportingChanges} are recomputed with set-based upserts, so a refresh costs in proportion to
+ * the number of changed keys, not to the size of the catalog. A full rebuild runs at startup and on
+ * {@code app.reporting.rebuild-cron}, repairing changes that were never recorded, e.g. during a restart.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true")
+public class ReportRefresher {
+
+    private static final int KEYS_PER_STATEMENT = 1000;
+
+    private static final String UPSERT_COURSES =
+            "INSERT INTO report_course_stats (course_id, title, instructor_id, student_count, review_count, refreshed_at) " +
+            "SELECT c.id, c.title, c.instructor_id, " +
+            "(SELECT count(*) FROM course_student cs WHERE cs.course_id = c.id), " +
+            "(SELECT count(*) FROM course_reviews r WHERE r.course_id = c.id), now() " +
+            "FROM courses c WHERE c.id IN (:ids) " +
+            "ON CONFLICT (course_id) DO UPDATE SET title = excluded.title, instructor_id = excluded.instructor_id, " +
+            "student_count = excluded.student_count, review_count = excluded.review_count, " +
+            "refreshed_at = excluded.refreshed_at";
+    private static final String DELETE_COURSES =
+            "DELETE FROM report_course_stats s WHERE s.course_id IN (:ids) " +
+            "AND NOT EXISTS (SELECT 1 FROM courses c WHERE c.id = s.course_id)";
+    private static final String UPSERT_INSTRUCTORS =
+            "INSERT INTO report_instructor_courses (instructor_id, first_name, last_name, course_count, refreshed_at) " +
+            "SELECT i.id, i.first_name, i.last_name, " +
+            "(SELECT count(*) FROM courses c WHERE c.instructor_id = i.id), now() " +
+            "FROM instructor i WHERE i.id IN (:ids) " +
+            "ON CONFLICT (instructor_id) DO UPDATE SET first_name = excluded.first_name, " +
+            "last_name = excluded.last_name, course_count = excluded.course_count, refreshed_at = excluded.refreshed_at";
+    private static final String DELETE_INSTRUCTORS =
+            "DELETE FROM report_instructor_courses s WHERE s.instructor_id IN (:ids) " +
+            "AND NOT EXISTS (SELECT 1 FROM instructor i WHERE i.id = s.instructor_id)";
+    /**
+     * Serializes the rebuilds of all application instances; released when the rebuild transaction ends.
+     */
+    private static final String REBUILD_LOCK = "SELECT 1 FROM pg_advisory_xact_lock(hashtext('report_rebuild'))";
+    private static final List<String> REBUILD = List.of(
+            "DELETE FROM report_course_stats",
+            "INSERT INTO report_course_stats (course_id, title, instructor_id, student_count, review_count, refreshed_at) " +
+            "SELECT c.id, c.title, c.instructor_id, coalesce(s.n, 0), coalesce(r.n, 0), now() FROM courses c " +
+            "LEFT JOIN (SELECT course_id, count(*) AS n FROM course_student GROUP BY course_id) s ON s.course_id = c.id " +
+            "LEFT JOIN (SELECT course_id, count(*) AS n FROM course_reviews GROUP BY course_id) r ON r.course_id = c.id " +
+            // a concurrent incremental refresh may have upserted a row since the delete
+            "ON CONFLICT (course_id) DO UPDATE SET title = excluded.title, instructor_id = excluded.instructor_id, " +
+            "student_count = excluded.student_count, review_count = excluded.review_count, " +
+            "refreshed_at = excluded.refreshed_at",
+            "DELETE FROM report_instructor_courses",
+            "INSERT INTO report_instructor_courses (instructor_id, first_name, last_name, course_count, refreshed_at) " +
+            "SELECT i.id, i.first_name, i.last_name, coalesce(c.n, 0), now() FROM instructor i " +
+            "LEFT JOIN (SELECT instructor_id, count(*) AS n FROM courses GROUP BY instructor_id) c " +
+            "ON c.instructor_id = i.id " +
+            "ON CONFLICT (instructor_id) DO UPDATE SET first_name = excluded.first_name, " +
+            "last_name = excluded.last_name, course_count = excluded.course_count, refreshed_at = excluded.refreshed_at");
+
+    private final Logger logger = LoggerFactory.getLogger(ReportRefresher.class);
+    private final EntityManager em;
+    private final ReportingChanges changes;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ReportRefresher(EntityManager em, ReportingChanges changes, PlatformTransactionManager transactionManager) {
+        this.em = em;
+        this.changes = changes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Recomputes the aggregates of the courses and instructors changed since the last run.
+     */
+    @Scheduled(fixedDelayString = "${app.reporting.refresh-interval-ms:30000}")
+    public void refreshChanged() {
+        if (changes.drainEverything()) {
+            rebuild();
+            return;
+        }
+        Set<Integer> courses = changes.drainCourses();
+        Set<Integer> instructors = changes.drainInstructors();
+        if (courses.isEmpty() && instructors.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                forChunks(courses, UPSERT_COURSES, DELETE_COURSES);
+                forChunks(instructors, UPSERT_INSTRUCTORS, DELETE_INSTRUCTORS);
+            });
+            logger.debug("Refreshed reporting for {} courses and {} instructors", courses.size(), instructors.size());
+        } catch (RuntimeException e) {
+            changes.requeue(courses, instructors);
+            throw e;
+        }
+    }
+
+    /**
+     * Recomputes every aggregate in one transaction; readers keep seeing the previous values until it commits.
+     * Safe to run on several instances at once: rebuilds queue on a transaction-scoped advisory lock, and
+     * their inserts upsert over rows written by concurrent incremental refreshes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.reporting.rebuild-cron:0 0 3 * * *}")
+    public void rebuild() {
+        // the rebuild covers every pending key
+        changes.drainEverything();
+        changes.drainCourses();
+        changes.drainInstructors();
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            reportQuery(REBUILD_LOCK).getSingleResult();
+            REBUILD.forEach(sql -> reportQuery(sql).executeUpdate());
+        });
+        logger.info("Rebuilt reporting tables in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void forChunks(Set<Integer> keys, String upsert, String delete) {
+        List<Integer> ids = new ArrayList<>(keys);
+        for (int from = 0; from < ids.size(); from += KEYS_PER_STATEMENT) {
+            List<Integer> chunk = ids.subList(from, Math.min(from + KEYS_PER_STATEMENT, ids.size()));
+            reportQuery(upsert).setParameter("ids", chunk).executeUpdate();
+            reportQuery(delete).setParameter("ids", chunk).executeUpdate();
+        }
+    }
+
+    /**
+     * Creates a native statement over the reporting tables. Declaring them as the query space keeps
+     * Hibernate from invalidating the entity cache regions.
+     */
+    private NativeQuery<?> reportQuery(String sql) {
+        return em.createNativeQuery(sql).unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("report_course_stats")
+                .addSynchronizedQuerySpace("report_instructor_courses");
+    }
+}
@@ -0,0 +1,130 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects the courses and instructors whose reporting aggregates are out of date.
+ * Keys are recorded after the changing transaction commits, so a refresh never reads the state
+ * from before the change and then forgets the key. Entity changes are recorded by
+ * {@link ReportingEventListener}; bulk and native statements are recorded by the DAO explicitly.
+ * <p>
+ * Does nothing unless {@code app.reporting.enabled} is set. Keys are kept in memory only; the
+ * periodic full rebuild repairs anything lost in a restart.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+public class ReportingChanges {
+
+    private final boolean enabled;
+    private final Set<Integer> courses = ConcurrentHashMap.newKeySet();
+    private final Set<Integer> instructors = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean everything = new AtomicBoolean();
+
+    public ReportingChanges(@Value("${app.reporting.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return whether changes are tracked, i.e. reporting is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the statistics of a course as out of date.
+     *
+     * @param courseId the ID of the changed course
+     */
+    public void courseChanged(int courseId) {
+        if (enabled) {
+            afterCommit(() -> courses.add(courseId));
+        }
+    }
+
+    /**
+     * Marks the statistics of several courses as out of date.
+     *
+     * @param courseIds the IDs of the changed courses
+     */
+    public void coursesChanged(Collection<Integer> courseIds) {
+        if (enabled && !courseIds.isEmpty()) {
+            Set<Integer> copy = Set.copyOf(courseIds);
+            afterCommit(() -> courses.addAll(copy));
+        }
+    }
+
+    /**
+     * Marks the course count of an instructor as out of date.
+     *
+     * @param instructorId the ID of the changed instructor
+     */
+    public void instructorChanged(int instructorId) {
+        if (enabled) {
+            afterCommit(() -> instructors.add(instructorId));
+        }
+    }
+
+    /**
+     * Marks all aggregates as out of date, e.g. after rows were loaded outside Hibernate.
+     */
+    public void everythingChanged() {
+        if (enabled) {
+            afterCommit(() -> everything.set(true));
+        }
+    }
+
+    boolean drainEverything() {
+        return everything.getAndSet(false);
+    }
+
+    Set<Integer> drainCourses() {
+        return drain(courses);
+    }
+
+    Set<Integer> drainInstructors() {
+        return drain(instructors);
+    }
+
+    /**
+     * Puts back keys whose refresh failed, so the next run retries them.
+     */
+    void requeue(Set<Integer> courseIds, Set<Integer> instructorIds) {
+        courses.addAll(courseIds);
+        instructors.addAll(instructorIds);
+    }
+
+    private static Set<Integer> drain(Set<Integer> keys) {
+        Set<Integer> drained = new HashSet<>();
+        for (Iterator<Integer> it = keys.iterator(); it.hasNext(); ) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+
+    private static void afterCommit(Runnable mark) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark.run();
+                }
+            });
+        } else {
+            mark.run();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Turns on scheduling for the reporting refresh jobs when {@code app.reporting.enabled} is set.
+ * The reporting tables come from {@code db/006-reporting-summaries.sql}.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true")
+public class ReportingConfig {
+}
@@ -0,0 +1,149 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Records which reporting aggregates an entity change affects: inserted, updated and deleted
+ * courses, reviews and instructors, and rewritten enrollment collections.
+ * Bulk HQL and native statements raise no events; the DAO records those itself.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@Component
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true")
+public class ReportingEventListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReportingChanges changes;
+
+    @Autowired
+    public ReportingEventListener(EntityManagerFactory entityManagerFactory, ReportingChanges changes) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.changes = changes;
+    }
+
+    /**
+     * Appends this listener to the Hibernate event pipeline.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changed(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changed(event.getEntity());
+        // the previous instructor or course loses a course or review
+        if (event.getEntity() instanceof Course && event.getOldState() != null) {
+            changed(event.getOldState()[event.getPersister().getPropertyIndex("instructor")]);
+        } else if (event.getEntity() instanceof Review && event.getOldState() != null
+                && event.getOldState()[event.getPersister().getPropertyIndex("course")] instanceof Course oldCourse) {
+            // only the old course's review count changes; its instructor is not touched, the proxy stays uninitialized
+            changes.courseChanged(oldCourse.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changed(event.getEntity());
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        enrollmentsChanged(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        enrollmentsChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        enrollmentsChanged(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Records the aggregates a course, review or instructor contributes to.
+     */
+    private void changed(Object entity) {
+        if (entity instanceof Course course) {
+            changes.courseChanged(course.getId());
+            if (course.getInstructor() != null) {
+                changes.instructorChanged(course.getInstructor().getId());
+            }
+        } else if (entity instanceof Review review && review.getCourse() != null) {
+            changes.courseChanged(review.getCourse().getId());
+        } else if (entity instanceof Instructor instructor) {
+            changes.instructorChanged(instructor.getId());
+        }
+    }
+
+    /**
+     * Both sides of the course/student association write course_student, so a change to either
+     * collection changes the enrollment counts of the courses in it, before and after.
+     */
+    private void enrollmentsChanged(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof Course course) {
+            changes.courseChanged(course.getId());
+        } else if (event.getAffectedOwnerOrNull() instanceof Student) {
+            PersistentCollection<?> collection = event.getCollection();
+            if (collection.wasInitialized()) {
+                for (Object element : (Iterable<?>) collection) {
+                    changed(element);
+                }
+            }
+            if (collection.getStoredSnapshot() instanceof Map<?, ?> snapshot) {
+                snapshot.values().forEach(this::changed);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps exceptions thrown by the REST controllers to problem-detail responses.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // a permit usually frees up within one DAO call, so a short pause is enough
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * @param e the missing resource
+     * @return a 404 problem
+     */
+    @ExceptionHandler({ResourceNotFoundException.class, EmptyResultDataAccessException.class})
+    public ProblemDetail notFound(RuntimeException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, e.getMessage());
+    }
+
+    /**
+     * @param e an update without {@code If-Match}
+     * @return a 428 problem
+     */
+    @ExceptionHandler(PreconditionRequiredException.class)
+    public ProblemDetail preconditionRequired(PreconditionRequiredException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_REQUIRED, e.getMessage());
+    }
+
+    /**
+     * @param e an update based on a stale ETag
+     * @return a 412 problem; the client should reload the resource and try again
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ProblemDetail preconditionFailed(PreconditionFailedException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.PRECONDITION_FAILED, e.getMessage());
+    }
+
+    /**
+     * @param e a conflicting concurrent update
+     * @return a 409 problem; the client should reload the resource and try again
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ProblemDetail conflict(OptimisticLockingFailureException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, e.getMessage());
+    }
+
+    /**
+     * @param e no database capacity within the timeout, e.g. from {@code DaoConcurrencyLimiter}
+     * @return a 503 problem with {@code Retry-After}; the request did not reach the database and can be retried
+     */
+    @ExceptionHandler(TransientDataAccessResourceException.class)
+    public ResponseEntity<ProblemDetail> unavailable(TransientDataAccessResourceException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    /**
+     * @param e a malformed page size or continuation token
+     * @return a 400 problem
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ProblemDetail badRequest(IllegalArgumentException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+}
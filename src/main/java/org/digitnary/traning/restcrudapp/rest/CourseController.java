@@ -0,0 +1,254 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.Valid;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.CourseView;
+import org.digitnary.traning.restcrudapp.dto.ReviewView;
+import org.digitnary.traning.restcrudapp.dto.StudentView;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * REST endpoints for courses, their reviews and their enrolled students.
+ * Reviews and students are paginated, so a popular course is never loaded as a whole.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/courses")
+public class CourseController {
+
+    private final InstructorDao dao;
+
+    @Autowired
+    public CourseController(InstructorDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Lists courses with their instructors' names, one page at a time.
+     *
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of courses
+     */
+    @GetMapping
+    public PageResponse<CourseSummary> list(@RequestParam(required = false) String after,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findCourseSummariesAfter(KeysetPage.decode(after), size), Function.identity());
+    }
+
+    /**
+     * Gets a course.
+     *
+     * @param id      the ID of the course
+     * @param request the request, checked against {@code If-None-Match}
+     * @return the course, or null once a 304 has been written
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseView> get(@PathVariable int id, WebRequest request) {
+        Integer version = dao.findCourseVersion(id);
+        if (version == null) {
+            throw new ResourceNotFoundException("Course", id);
+        }
+        if (request.checkNotModified(ETags.of(version))) {
+            return null;
+        }
+        Course course = dao.findCourseById(id);
+        if (course == null) {
+            throw new ResourceNotFoundException("Course", id);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(course.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(CourseView.from(course));
+    }
+
+    /**
+     * Creates a course.
+     *
+     * @param body the course to create
+     * @return the created course with its location
+     */
+    @PostMapping
+    public ResponseEntity<CourseView> create(@Valid @RequestBody CourseRequest body) {
+        Course course = new Course(body.title());
+        if (body.instructorId() == null) {
+            dao.saveCourse(course);
+        } else {
+            if (dao.findInstructorVersion(body.instructorId()) == null) {
+                throw new ResourceNotFoundException("Instructor", body.instructorId());
+            }
+            dao.saveCourse(course, body.instructorId());
+        }
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                        .buildAndExpand(course.getId()).toUri())
+                .eTag(ETags.of(course.getVersion()))
+                .body(CourseView.from(course));
+    }
+
+    /**
+     * Replaces the title and instructor of a course, provided it is still at the version the client read.
+     *
+     * @param id      the ID of the course
+     * @param ifMatch the ETag the client read, required
+     * @param body    the new state of the course
+     * @return 204 once updated, 412 if the course changed since, 428 without {@code If-Match}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Void> update(@PathVariable int id,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @Valid @RequestBody CourseRequest body) {
+        int version = ETags.versionOf(ifMatch, "Course", id);
+        Course course = dao.findCourseById(id);
+        if (course == null) {
+            throw new ResourceNotFoundException("Course", id);
+        }
+        course.setVersion(version);
+        course.setTitle(body.title());
+        course.setInstructor(body.instructorId() == null ? null : requireInstructor(body.instructorId()));
+        try {
+            dao.updateCourse(course);
+        } catch (OptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Course", id, e);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes a course with its reviews and enrollments.
+     *
+     * @param id the ID of the course
+     * @return 204, also when the course did not exist
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable int id) {
+        dao.deleteCourse(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Lists the reviews of a course, one page at a time.
+     *
+     * @param id    the ID of the course
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of reviews
+     */
+    @GetMapping("/{id}/reviews")
+    public PageResponse<ReviewView> reviews(@PathVariable int id, @RequestParam(required = false) String after,
+                                            @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findReviewsAfter(id, KeysetPage.decode(after), size), ReviewView::from);
+    }
+
+    /**
+     * Adds a review to a course.
+     *
+     * @param id   the ID of the course
+     * @param body the review to add
+     * @return the created review
+     */
+    @PostMapping("/{id}/reviews")
+    public ResponseEntity<ReviewView> addReview(@PathVariable int id, @Valid @RequestBody ReviewRequest body) {
+        requireCourse(id);
+        Review review = new Review(body.comment());
+        dao.saveReview(id, review);
+        return ResponseEntity.status(201).body(ReviewView.from(review));
+    }
+
+    /**
+     * Lists the students enrolled in a course, one page at a time.
+     *
+     * @param id    the ID of the course
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of students
+     */
+    @GetMapping("/{id}/students")
+    public PageResponse<StudentView> students(@PathVariable int id, @RequestParam(required = false) String after,
+                                              @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findStudentsByCourseAfter(id, KeysetPage.decode(after), size), StudentView::from);
+    }
+
+    /**
+     * Enrolls a student in a course without loading the course's students.
+     *
+     * @param id        the ID of the course
+     * @param studentId the ID of the student
+     * @return 201 if the student was enrolled, 204 if already enrolled
+     */
+    @PutMapping("/{id}/students/{studentId}")
+    public ResponseEntity<Void> enroll(@PathVariable int id, @PathVariable int studentId) {
+        requireCourse(id);
+        if (dao.findStudentVersion(studentId) == null) {
+            throw new ResourceNotFoundException("Student", studentId);
+        }
+        return dao.enroll(studentId, id) ? ResponseEntity.status(201).build() : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Enrolls many students in a course; unknown and already enrolled students are skipped.
+     *
+     * @param id         the ID of the course
+     * @param studentIds the IDs of the students
+     * @return the number of students newly enrolled
+     */
+    @PostMapping("/{id}/students")
+    public Map<String, Integer> enrollAll(@PathVariable int id, @RequestBody int[] studentIds) {
+        requireCourse(id);
+        return Map.of("enrolled", dao.enrollAll(id, studentIds));
+    }
+
+    /**
+     * Removes a student from a course.
+     *
+     * @param id        the ID of the course
+     * @param studentId the ID of the student
+     * @return 204, or 404 if the student was not enrolled
+     */
+    @DeleteMapping("/{id}/students/{studentId}")
+    public ResponseEntity<Void> unenroll(@PathVariable int id, @PathVariable int studentId) {
+        if (!dao.unenroll(studentId, id)) {
+            throw new ResourceNotFoundException("Enrollment of student " + studentId + " in course", id);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private void requireCourse(int id) {
+        if (dao.findCourseVersion(id) == null) {
+            throw new ResourceNotFoundException("Course", id);
+        }
+    }
+
+    private Instructor requireInstructor(int instructorId) {
+        Instructor instructor = dao.findById(instructorId);
+        if (instructor == null) {
+            throw new ResourceNotFoundException("Instructor", instructorId);
+        }
+        return instructor;
+    }
+}
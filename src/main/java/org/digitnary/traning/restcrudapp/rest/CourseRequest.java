@@ -0,0 +1,14 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Body of the requests that create or replace a course.
+ *
+ * @param title        the title of the course
+ * @param instructorId the ID of the instructor, or null for none
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record CourseRequest(@NotBlank String title, Integer instructorId) {
+}
@@ -0,0 +1,50 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+/**
+ * Builds HTTP entity tags from entity version columns.
+ * A version changes with every committed update, so it identifies one representation of a resource.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * @param version the version of the entity
+     * @return the quoted entity tag
+     */
+    static String of(int version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the version an update is based on from its {@code If-Match} header.
+     *
+     * @param ifMatch  the header value, null if absent
+     * @param resource the kind of resource, for error messages
+     * @param id       the ID of the resource, for error messages
+     * @return the version named by the tag
+     * @throws PreconditionRequiredException if the header is absent or {@code *}
+     * @throws PreconditionFailedException   if the header is not a tag built by {@link #of(int)}
+     */
+    static int versionOf(String ifMatch, String resource, int id) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            throw new PreconditionRequiredException(resource, id);
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                return Integer.parseInt(tag.substring(1, tag.length() - 1));
+            }
+        } catch (NumberFormatException e) {
+            // not one of our tags, so it cannot match the current one
+        }
+        throw new PreconditionFailedException(resource, id, null);
+    }
+}
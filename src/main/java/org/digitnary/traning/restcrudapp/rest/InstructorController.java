@@ -0,0 +1,164 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.Valid;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.InstructorSummary;
+import org.digitnary.traning.restcrudapp.dto.InstructorView;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * REST endpoints for instructors and their details.
+ * Single instructors carry an ETag taken from their version, so conditional GETs are answered
+ * with 304 after a one-column query, without loading the instructor.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/instructors")
+public class InstructorController {
+
+    private final InstructorDao dao;
+
+    @Autowired
+    public InstructorController(InstructorDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Lists instructors with their course counts, one page at a time.
+     *
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of instructors
+     */
+    @GetMapping
+    public PageResponse<InstructorSummary> list(@RequestParam(required = false) String after,
+                                                @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findInstructorSummariesAfter(KeysetPage.decode(after), size), Function.identity());
+    }
+
+    /**
+     * Gets an instructor with their detail.
+     *
+     * @param id      the ID of the instructor
+     * @param request the request, checked against {@code If-None-Match}
+     * @return the instructor, or null once a 304 has been written
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<InstructorView> get(@PathVariable int id, WebRequest request) {
+        Integer version = dao.findInstructorVersion(id);
+        if (version == null) {
+            throw new ResourceNotFoundException("Instructor", id);
+        }
+        if (request.checkNotModified(ETags.of(version))) {
+            return null;
+        }
+        Instructor instructor = dao.findById(id);
+        if (instructor == null) {
+            throw new ResourceNotFoundException("Instructor", id);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(instructor.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(InstructorView.from(instructor));
+    }
+
+    /**
+     * Creates an instructor with their detail.
+     *
+     * @param body the instructor to create
+     * @return the created instructor with its location
+     */
+    @PostMapping
+    public ResponseEntity<InstructorView> create(@Valid @RequestBody InstructorRequest body) {
+        Instructor instructor = new Instructor(body.firstName(), body.lastName(), body.email(),
+                new InstructorDetail(body.youtubeChannel(), body.hobby()));
+        dao.create(instructor);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                        .buildAndExpand(instructor.getId()).toUri())
+                .eTag(ETags.of(instructor.getVersion()))
+                .body(InstructorView.from(instructor));
+    }
+
+    /**
+     * Replaces an instructor and their detail, provided they are still at the version the client read.
+     *
+     * @param id      the ID of the instructor
+     * @param ifMatch the ETag the client read, required
+     * @param body    the new state of the instructor
+     * @return 204 once updated, 412 if the instructor changed since, 428 without {@code If-Match}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Void> update(@PathVariable int id,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @Valid @RequestBody InstructorRequest body) {
+        int version = ETags.versionOf(ifMatch, "Instructor", id);
+        Instructor instructor = dao.findById(id);
+        if (instructor == null) {
+            throw new ResourceNotFoundException("Instructor", id);
+        }
+        // merged with the client's version, so a stale tag fails the versioned UPDATE
+        instructor.setVersion(version);
+        instructor.setFirstName(body.firstName());
+        instructor.setLastName(body.lastName());
+        instructor.setEmail(body.email());
+        if (instructor.getDetail() == null) {
+            instructor.setDetail(new InstructorDetail());
+        }
+        instructor.getDetail().setYoutubeChannel(body.youtubeChannel());
+        instructor.getDetail().setHobby(body.hobby());
+        try {
+            dao.update(instructor);
+        } catch (OptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Instructor", id, e);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes an instructor and their detail; their courses are kept without an instructor.
+     *
+     * @param id the ID of the instructor
+     * @return 204, also when the instructor did not exist
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable int id) {
+        dao.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Lists the courses of an instructor.
+     *
+     * @param id the ID of the instructor
+     * @return the summaries of the instructor's courses
+     */
+    @GetMapping("/{id}/courses")
+    public List<CourseSummary> courses(@PathVariable int id) {
+        return dao.findCourseSummariesByInstructor(id);
+    }
+}
@@ -0,0 +1,19 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Body of the requests that create or replace an instructor and their detail.
+ *
+ * @param firstName      the first name of the instructor
+ * @param lastName       the last name of the instructor
+ * @param email          the email of the instructor
+ * @param youtubeChannel the YouTube channel of the instructor
+ * @param hobby          the hobby of the instructor
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record InstructorRequest(@NotBlank String firstName, @NotBlank String lastName, @NotBlank @Email String email,
+                                String youtubeChannel, String hobby) {
+}
@@ -0,0 +1,32 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a paginated REST listing.
+ * The next page is requested by passing {@link #next()} as the {@code after} query parameter.
+ *
+ * @param content the items on this page
+ * @param next    the continuation token of the next page, or null on the last page
+ * @param <T>     the item type
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record PageResponse<T>(List<T> content, String next) {
+
+    /**
+     * Maps a DAO page to a response page.
+     *
+     * @param page   the page returned by the DAO
+     * @param mapper converts each entity to its representation
+     * @param <E>    the entity type
+     * @param <T>    the representation type
+     * @return the response page
+     */
+    static <E, T> PageResponse<T> of(KeysetPage<E> page, Function<E, T> mapper) {
+        return new PageResponse<>(page.content().stream().map(mapper).toList(), page.continuationToken());
+    }
+}
@@ -0,0 +1,20 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+/**
+ * Thrown when the {@code If-Match} tag of an update is not the current version of the resource,
+ * i.e. someone else changed it since the client read it; answered with 412.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * @param resource the kind of resource, e.g. {@code Instructor}
+     * @param id       the requested ID
+     * @param cause    the version conflict, or null
+     */
+    public PreconditionFailedException(String resource, int id, Throwable cause) {
+        super(resource + " " + id + " was changed since the given ETag, reload it and try again", cause);
+    }
+}
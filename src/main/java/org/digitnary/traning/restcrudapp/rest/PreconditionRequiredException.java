@@ -0,0 +1,18 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+/**
+ * Thrown when an update does not name the version it replaces in {@code If-Match}; answered with 428.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class PreconditionRequiredException extends RuntimeException {
+
+    /**
+     * @param resource the kind of resource, e.g. {@code Instructor}
+     * @param id       the requested ID
+     */
+    public PreconditionRequiredException(String resource, int id) {
+        super("Updating " + resource + " " + id + " requires an If-Match header with its current ETag");
+    }
+}
@@ -0,0 +1,86 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dao.ReportingDao;
+import org.digitnary.traning.restcrudapp.dto.CourseStats;
+import org.digitnary.traning.restcrudapp.dto.InstructorCourseCount;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * REST endpoints for the reporting aggregates. Results may lag the live data by one refresh interval;
+ * each course row carries the time it was computed.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/reports")
+@ConditionalOnProperty(name = "app.reporting.enabled", havingValue = "true")
+public class ReportController {
+
+    private final ReportingDao dao;
+
+    @Autowired
+    public ReportController(ReportingDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Lists instructors with their course counts, one page at a time.
+     *
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of course counts
+     */
+    @GetMapping("/instructor-courses")
+    public PageResponse<InstructorCourseCount> instructorCourses(@RequestParam(required = false) String after,
+                                                                 @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findInstructorCourseCountsAfter(KeysetPage.decode(after), size), Function.identity());
+    }
+
+    /**
+     * Gets the enrollment and review counts of a course.
+     *
+     * @param id the ID of the course
+     * @return the statistics
+     */
+    @GetMapping("/courses/{id}")
+    public CourseStats course(@PathVariable int id) {
+        CourseStats stats = dao.findCourseStats(id);
+        if (stats == null) {
+            throw new ResourceNotFoundException("Course", id);
+        }
+        return stats;
+    }
+
+    /**
+     * Gets the most enrolled courses.
+     *
+     * @param limit the number of courses
+     * @return the courses, most enrolled first
+     */
+    @GetMapping("/courses/top-enrolled")
+    public List<CourseStats> topEnrolled(@RequestParam(defaultValue = "10") int limit) {
+        return dao.findTopCoursesByStudents(limit);
+    }
+
+    /**
+     * Gets the most reviewed courses.
+     *
+     * @param limit the number of courses
+     * @return the courses, most reviewed first
+     */
+    @GetMapping("/courses/top-reviewed")
+    public List<CourseStats> topReviewed(@RequestParam(defaultValue = "10") int limit) {
+        return dao.findTopCoursesByReviews(limit);
+    }
+}
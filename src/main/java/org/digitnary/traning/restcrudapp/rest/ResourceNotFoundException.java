@@ -0,0 +1,18 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+/**
+ * Thrown when a request addresses an entity that does not exist; answered with 404.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    /**
+     * @param resource the kind of resource, e.g. {@code Instructor}
+     * @param id       the requested ID
+     */
+    public ResourceNotFoundException(String resource, int id) {
+        super(resource + " " + id + " not found");
+    }
+}
@@ -0,0 +1,13 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Body of the request that adds a review to a course.
+ *
+ * @param comment the comment of the review
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record ReviewRequest(@NotBlank String comment) {
+}
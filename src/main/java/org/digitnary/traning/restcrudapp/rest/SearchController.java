@@ -0,0 +1,62 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.dao.RankedPage;
+import org.digitnary.traning.restcrudapp.dao.SearchDao;
+import org.digitnary.traning.restcrudapp.dto.CourseHit;
+import org.digitnary.traning.restcrudapp.dto.ReviewHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for full-text search over course titles and review comments.
+ * Results are ranked by relevance and paged with {@code ?page=}, starting at 0.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchDao dao;
+
+    @Autowired
+    public SearchController(SearchDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Searches course titles.
+     *
+     * @param q    the search text, in web search syntax
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the matching courses, most relevant first
+     */
+    @GetMapping("/courses")
+    public RankedPage<CourseHit> courses(@RequestParam String q,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size) {
+        return dao.searchCourses(q, page, size);
+    }
+
+    /**
+     * Searches review comments.
+     *
+     * @param q        the search text, in web search syntax
+     * @param courseId the ID of the course to search in, absent for all courses
+     * @param page     the zero-based page number
+     * @param size     the page size
+     * @return the matching reviews, most relevant first
+     */
+    @GetMapping("/reviews")
+    public RankedPage<ReviewHit> reviews(@RequestParam String q,
+                                         @RequestParam(required = false) Integer courseId,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size) {
+        return dao.searchReviews(q, courseId, page, size);
+    }
+}
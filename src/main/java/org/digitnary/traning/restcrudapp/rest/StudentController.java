@@ -0,0 +1,156 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.Valid;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.dao.KeysetPage;
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.StudentView;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.function.Function;
+
+/**
+ * REST endpoints for students and the courses they are enrolled in.
+ *
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+@RestController
+@RequestMapping("/api/students")
+public class StudentController {
+
+    private final InstructorDao dao;
+
+    @Autowired
+    public StudentController(InstructorDao dao) {
+        this.dao = dao;
+    }
+
+    /**
+     * Lists students, one page at a time.
+     *
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of students
+     */
+    @GetMapping
+    public PageResponse<StudentView> list(@RequestParam(required = false) String after,
+                                          @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findStudentsAfter(KeysetPage.decode(after), size), StudentView::from);
+    }
+
+    /**
+     * Gets a student.
+     *
+     * @param id      the ID of the student
+     * @param request the request, checked against {@code If-None-Match}
+     * @return the student, or null once a 304 has been written
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StudentView> get(@PathVariable int id, WebRequest request) {
+        Integer version = dao.findStudentVersion(id);
+        if (version == null) {
+            throw new ResourceNotFoundException("Student", id);
+        }
+        if (request.checkNotModified(ETags.of(version))) {
+            return null;
+        }
+        Student student = dao.findStudentById(id);
+        if (student == null) {
+            throw new ResourceNotFoundException("Student", id);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETags.of(student.getVersion()))
+                .cacheControl(CacheControl.noCache())
+                .body(StudentView.from(student));
+    }
+
+    /**
+     * Creates a student.
+     *
+     * @param body the student to create
+     * @return the created student with its location
+     */
+    @PostMapping
+    public ResponseEntity<StudentView> create(@Valid @RequestBody StudentRequest body) {
+        Student student = new Student(body.firstName(), body.lastName(), body.email());
+        dao.saveStudent(student);
+        return ResponseEntity.created(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}")
+                        .buildAndExpand(student.getId()).toUri())
+                .eTag(ETags.of(student.getVersion()))
+                .body(StudentView.from(student));
+    }
+
+    /**
+     * Replaces a student, provided it is still at the version the client read.
+     *
+     * @param id      the ID of the student
+     * @param ifMatch the ETag the client read, required
+     * @param body    the new state of the student
+     * @return 204 once updated, 412 if the student changed since, 428 without {@code If-Match}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Void> update(@PathVariable int id,
+                                       @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @Valid @RequestBody StudentRequest body) {
+        int version = ETags.versionOf(ifMatch, "Student", id);
+        Student student = dao.findStudentById(id);
+        if (student == null) {
+            throw new ResourceNotFoundException("Student", id);
+        }
+        student.setVersion(version);
+        student.setFirstName(body.firstName());
+        student.setLastName(body.lastName());
+        student.setEmail(body.email());
+        try {
+            dao.updateStudent(student);
+        } catch (OptimisticLockingFailureException e) {
+            throw new PreconditionFailedException("Student", id, e);
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Deletes a student with their enrollments.
+     *
+     * @param id the ID of the student
+     * @return 204, also when the student did not exist
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable int id) {
+        dao.deleteStudentById(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Lists the courses a student is enrolled in, one page at a time.
+     *
+     * @param id    the ID of the student
+     * @param after the continuation token of the previous page, absent for the first page
+     * @param size  the page size
+     * @return the page of courses
+     */
+    @GetMapping("/{id}/courses")
+    public PageResponse<CourseSummary> courses(@PathVariable int id, @RequestParam(required = false) String after,
+                                               @RequestParam(defaultValue = "50") int size) {
+        return PageResponse.of(dao.findCourseSummariesByStudentAfter(id, KeysetPage.decode(after), size),
+                Function.identity());
+    }
+}
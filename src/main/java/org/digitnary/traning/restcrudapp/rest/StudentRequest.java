@@ -0,0 +1,16 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Body of the requests that create or replace a student.
+ *
+ * @param firstName the first name of the student
+ * @param lastName  the last name of the student
+ * @param email     the email of the student
+ * @author Ahmad Al-Masri
+ * @since 18/10/2026
+ */
+public record StudentRequest(@NotBlank String firstName, @NotBlank String lastName, @NotBlank @Email String email) {
+}
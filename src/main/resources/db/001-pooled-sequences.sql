@@ -0,0 +1,19 @@
+-- Migrates the ID sequences from one nextval per row to pooled allocation.
+-- The INCREMENT BY value of every sequence must match the matching
+-- app.id.<entity>.allocation-size setting in application.properties,
+-- otherwise Hibernate refuses to start (increment size mismatch).
+-- Values already handed out are never reused: the next call jumps ahead
+-- by a full block, so the script can be applied to a live database.
+
+ALTER SEQUENCE instructor_sequence INCREMENT BY 50;
+ALTER SEQUENCE instructordetail_sequence INCREMENT BY 50;
+ALTER SEQUENCE course_id_generator INCREMENT BY 50;
+ALTER SEQUENCE course_review_generator INCREMENT BY 100;
+ALTER SEQUENCE generator_std_id INCREMENT BY 100;
+
+-- Rollback (back to app.id.optimizer=none):
+-- ALTER SEQUENCE instructor_sequence INCREMENT BY 1;
+-- ALTER SEQUENCE instructordetail_sequence INCREMENT BY 1;
+-- ALTER SEQUENCE course_id_generator INCREMENT BY 1;
+-- ALTER SEQUENCE course_review_generator INCREMENT BY 1;
+-- ALTER SEQUENCE generator_std_id INCREMENT BY 1;
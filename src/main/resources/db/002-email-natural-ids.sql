@@ -0,0 +1,8 @@
+-- Instructor.email and Student.email are natural ids and must be unique.
+-- Find duplicates before applying:
+--   SELECT email, count(*) FROM instructor GROUP BY email HAVING count(*) > 1;
+--   SELECT email, count(*) FROM students GROUP BY email HAVING count(*) > 1;
+-- CONCURRENTLY keeps the tables writable while the indexes build; run outside a transaction.
+
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_instructor_email ON instructor (email);
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_students_email ON students (email);
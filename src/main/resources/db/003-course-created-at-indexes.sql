@@ -0,0 +1,7 @@
+-- Indexes for InstructorDao.deleteCoursesOlderThan, after 003-course-created-at.sql.
+-- Purges delete children by foreign key, so those columns need indexes as well.
+-- CONCURRENTLY keeps the tables writable while the indexes build; run outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_courses_created_at_id ON courses (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_reviews_course_id ON course_reviews (course_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_student_student_id ON course_student (student_id);
@@ -0,0 +1,5 @@
+-- Course.createdAt, used by InstructorDao.deleteCoursesOlderThan.
+-- Existing courses get the migration time as their creation time.
+-- The purge indexes are in 003-course-created-at-indexes.sql, run after this script.
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS created_at timestamp(6) with time zone NOT NULL DEFAULT now();
@@ -0,0 +1,6 @@
+-- Version columns for optimistic locking and HTTP entity tags (Instructor, Course, Student).
+-- Existing rows start at version 0.
+
+ALTER TABLE instructor ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE students ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
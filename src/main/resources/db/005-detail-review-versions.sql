@@ -0,0 +1,5 @@
+-- Version columns for optimistic locking of InstructorDetail and Review.
+-- Existing rows start at version 0.
+
+ALTER TABLE instructor_detail ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
+ALTER TABLE course_reviews ADD COLUMN IF NOT EXISTS version integer NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- The incremental refresh of 006-reporting-summaries.sql counts courses per instructor by foreign key.
+-- CONCURRENTLY keeps the table writable while the index builds; run outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_courses_instructor_id ON courses (instructor_id);
@@ -0,0 +1,23 @@
+-- Summary tables behind the reporting API, maintained by ReportRefresher.
+-- Plain tables rather than materialized views: a view can only be refreshed as a whole,
+-- these are upserted per changed course and instructor. Filled by the rebuild at startup.
+-- The index on courses is in 006-reporting-summaries-indexes.sql, run after this script.
+
+CREATE TABLE IF NOT EXISTS report_course_stats (
+    course_id     integer PRIMARY KEY,
+    title         varchar(255),
+    instructor_id integer,
+    student_count bigint NOT NULL,
+    review_count  bigint NOT NULL,
+    refreshed_at  timestamp(6) with time zone NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_report_course_stats_students ON report_course_stats (student_count DESC, course_id);
+CREATE INDEX IF NOT EXISTS ix_report_course_stats_reviews ON report_course_stats (review_count DESC, course_id);
+
+CREATE TABLE IF NOT EXISTS report_instructor_courses (
+    instructor_id integer PRIMARY KEY,
+    first_name    varchar(255),
+    last_name     varchar(255),
+    course_count  bigint NOT NULL,
+    refreshed_at  timestamp(6) with time zone NOT NULL
+);
@@ -0,0 +1,5 @@
+-- GIN indexes over the search vectors of 007-full-text-search.sql, used by SearchDao.
+-- CONCURRENTLY keeps the tables writable while the indexes build; run outside a transaction.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_courses_title_tsv ON courses USING gin (title_tsv);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_course_reviews_comment_tsv ON course_reviews USING gin (comment_tsv);
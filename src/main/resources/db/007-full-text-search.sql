@@ -0,0 +1,10 @@
+-- Full-text search over course titles and review comments, used by SearchDao.
+-- Generated columns are recomputed by PostgreSQL on every insert and update, including COPY loads
+-- and native statements, so the vectors never go stale. They are not mapped on the entities.
+-- Adding a stored generated column rewrites the table; run this in a maintenance window.
+-- The search indexes are in 007-full-text-search-indexes.sql, run after this script.
+
+ALTER TABLE courses ADD COLUMN IF NOT EXISTS title_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(title, ''))) STORED;
+ALTER TABLE course_reviews ADD COLUMN IF NOT EXISTS comment_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', coalesce(comment, ''))) STORED;
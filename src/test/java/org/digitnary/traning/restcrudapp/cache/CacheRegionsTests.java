@@ -0,0 +1,120 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheRegionsTests {
+
+    private static final String COURSES_ROLE = Instructor.class.getName() + ".courses";
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private CacheRegions cacheRegions;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void instructorIsReadFromTheCacheUntilItIsUpdated() {
+        Instructor instructor = saveInstructor("cached");
+        int id = instructor.getId();
+        cache().evictEntityData(Instructor.class, id);
+        CacheRegionStats before = cacheRegions.stats().get(CacheRegions.INSTRUCTOR);
+
+        dao.findById(id);
+        SqlStatementCounter.reset();
+        Instructor cached = dao.findById(id);
+
+        assertThat(SqlStatementCounter.count()).isZero();
+        CacheRegionStats read = cacheRegions.stats().get(CacheRegions.INSTRUCTOR);
+        assertThat(read.misses() - before.misses()).isPositive();
+        assertThat(read.puts() - before.puts()).isPositive();
+        assertThat(read.hits() - before.hits()).isPositive();
+
+        cached.setLastName("Updated");
+        dao.update(cached);
+
+        assertThat(cache().containsEntity(Instructor.class, id)).isFalse();
+        assertThat(cacheRegions.stats().get(CacheRegions.INSTRUCTOR).evictions() - read.evictions()).isEqualTo(1);
+        SqlStatementCounter.reset();
+        assertThat(dao.findById(id).getLastName()).isEqualTo("Updated");
+        assertThat(SqlStatementCounter.count("select")).isPositive();
+    }
+
+    @Test
+    void evictionsWaitForTheCommit() {
+        Instructor instructor = saveInstructor("deferred");
+        dao.findById(instructor.getId());
+        assertThat(cache().containsEntity(Instructor.class, instructor.getId())).isTrue();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cacheRegions.evictInstructor(instructor.getId());
+            assertThat(cache().containsEntity(Instructor.class, instructor.getId())).isTrue();
+        });
+
+        assertThat(cache().containsEntity(Instructor.class, instructor.getId())).isFalse();
+    }
+
+    @Test
+    void evictingACourseDropsTheCachedCourseCollections() {
+        Instructor instructor = saveInstructor("collection");
+        Course course = instructor.getCourses().iterator().next();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                Hibernate.initialize(em.find(Instructor.class, instructor.getId()).getCourses()));
+        assertThat(cache().containsCollection(COURSES_ROLE, instructor.getId())).isTrue();
+        CacheRegionStats coursesBefore = cacheRegions.stats().get(CacheRegions.COURSE);
+        CacheRegionStats collectionsBefore = cacheRegions.stats().get(CacheRegions.INSTRUCTOR_COURSES);
+
+        cacheRegions.evictCourse(course.getId());
+
+        assertThat(cache().containsEntity(Course.class, course.getId())).isFalse();
+        assertThat(cache().containsCollection(COURSES_ROLE, instructor.getId())).isFalse();
+        assertThat(cacheRegions.stats().get(CacheRegions.COURSE).evictions() - coursesBefore.evictions()).isEqualTo(1);
+        assertThat(cacheRegions.stats().get(CacheRegions.INSTRUCTOR_COURSES).evictions() - collectionsBefore.evictions())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void hitRatioIsTheShareOfLookupsAnsweredFromTheRegion() {
+        assertThat(new CacheRegionStats("region", 3, 1, 1, 0, 1).hitRatio()).isEqualTo(0.75);
+        assertThat(new CacheRegionStats("region", 0, 0, 0, 0, 0).hitRatio()).isZero();
+    }
+
+    private Instructor saveInstructor(String key) {
+        Instructor instructor = new Instructor("Cache", key, key + "@cache.example.com",
+                new InstructorDetail("cache-" + key, "caching"));
+        instructor.addCourse(new Course("Cached course " + key));
+        dao.create(instructor);
+        return instructor;
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
@@ -0,0 +1,64 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NaturalIdCacheTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private CacheRegions cacheRegions;
+
+    @Test
+    void repeatedEmailLookupIsAnsweredWithoutSql() {
+        Student student = new Student("Natural", "Id", "natural@natural-id.example.com");
+        dao.saveStudent(student);
+        dao.findStudentByEmail("natural@natural-id.example.com");
+        CacheRegionStats before = cacheRegions.stats().get(CacheRegions.STUDENT_EMAIL);
+
+        SqlStatementCounter.reset();
+        Student found = dao.findStudentByEmail("natural@natural-id.example.com");
+
+        assertThat(found.getId()).isEqualTo(student.getId());
+        assertThat(SqlStatementCounter.count()).isZero();
+        assertThat(cacheRegions.stats().get(CacheRegions.STUDENT_EMAIL).hits() - before.hits()).isPositive();
+    }
+
+    @Test
+    void changedEmailResolvesToTheSameInstructor() {
+        Instructor instructor = new Instructor("Natural", "Instructor", "before@natural-id.example.com",
+                new InstructorDetail("natural-channel", "resolving"));
+        dao.create(instructor);
+        assertThat(dao.findByEmail("before@natural-id.example.com")).isNotNull();
+
+        Instructor loaded = dao.findById(instructor.getId());
+        loaded.setEmail("after@natural-id.example.com");
+        dao.update(loaded);
+
+        assertThat(dao.findByEmail("before@natural-id.example.com")).isNull();
+        assertThat(dao.findByEmail("after@natural-id.example.com").getId()).isEqualTo(instructor.getId());
+    }
+
+    @Test
+    void emailsAreUnique() {
+        dao.saveStudent(new Student("First", "Owner", "taken@natural-id.example.com"));
+
+        assertThatThrownBy(() -> dao.saveStudent(new Student("Second", "Owner", "taken@natural-id.example.com")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
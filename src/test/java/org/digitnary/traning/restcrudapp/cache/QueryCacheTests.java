@@ -0,0 +1,100 @@
+package org.digitnary.traning.restcrudapp.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryCacheTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private CacheRegions cacheRegions;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void emptyTheLookupRegion() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CacheRegions.INSTRUCTOR_LOOKUPS);
+    }
+
+    @Test
+    void repeatedLookupIsAnsweredWithoutSql() {
+        Instructor instructor = saveInstructor("Repeated");
+        CacheRegionStats before = cacheRegions.lookupStats();
+
+        dao.findByName("Query", "Repeated");
+        SqlStatementCounter.reset();
+        Instructor found = dao.findByName("Query", "Repeated");
+
+        assertThat(found.getId()).isEqualTo(instructor.getId());
+        assertThat(SqlStatementCounter.count()).isZero();
+        CacheRegionStats after = cacheRegions.lookupStats();
+        assertThat(after.hits() - before.hits()).isEqualTo(1);
+        assertThat(after.misses() - before.misses()).isEqualTo(1);
+        assertThat(after.puts() - before.puts()).isEqualTo(1);
+        assertThat(cacheRegions.queryStats().values())
+                .filteredOn(stats -> stats.query().contains("firstName=:fN"))
+                .singleElement()
+                .satisfies(stats -> assertThat(stats.cacheHits()).isPositive());
+    }
+
+    @Test
+    void writingTheInstructorTableInvalidatesTheLookups() {
+        saveInstructor("Invalidated");
+        dao.findByName("Query", "Invalidated");
+
+        // any write to the table invalidates every cached result over it, not just the rows it touched
+        Instructor other = saveInstructor("Other");
+        other.setFirstName("Querying");
+        dao.update(other);
+
+        SqlStatementCounter.reset();
+        assertThat(dao.findByName("Query", "Invalidated")).isNotNull();
+        assertThat(SqlStatementCounter.count("select")).isPositive();
+    }
+
+    @Test
+    void writingTheDetailTableInvalidatesTheChannelLookup() {
+        Instructor instructor = saveInstructor("Channel");
+        dao.findByYoutubeChannel("query-Channel");
+        SqlStatementCounter.reset();
+        dao.findByYoutubeChannel("query-Channel");
+        assertThat(SqlStatementCounter.count()).isZero();
+
+        Instructor loaded = dao.findById(instructor.getId());
+        loaded.getDetail().setHobby("invalidating");
+        dao.update(loaded);
+
+        SqlStatementCounter.reset();
+        assertThat(dao.findByYoutubeChannel("query-Channel").getDetail().getHobby()).isEqualTo("invalidating");
+        assertThat(SqlStatementCounter.count("select")).isPositive();
+    }
+
+    @Test
+    void hitRatioIsTheShareOfLookupsAnsweredFromTheCache() {
+        assertThat(new QueryCacheStats("query", 1, 3, 1, 2, 5).hitRatio()).isEqualTo(0.75);
+        assertThat(new QueryCacheStats("query", 0, 0, 0, 0, 0).hitRatio()).isZero();
+    }
+
+    private Instructor saveInstructor(String lastName) {
+        Instructor instructor = new Instructor("Query", lastName, lastName.toLowerCase() + "@query.example.com",
+                new InstructorDetail("query-" + lastName, "caching"));
+        dao.create(instructor);
+        return instructor;
+    }
+}
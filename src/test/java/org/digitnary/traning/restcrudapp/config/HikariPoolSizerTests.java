@@ -0,0 +1,82 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HikariPoolSizerTests {
+
+    @Test
+    void withoutDatabaseCoresHikariKeepsItsDefault() {
+        HikariPoolSizer sizer = new HikariPoolSizer(new MockEnvironment());
+        HikariDataSource pool = pool("primary");
+        int configured = pool.getMaximumPoolSize();
+
+        sizer.postProcessAfterInitialization(pool, "dataSource");
+
+        assertThat(sizer.computePoolSize()).isEqualTo(HikariPoolSizer.HIKARI_DEFAULT_POOL_SIZE);
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(configured);
+    }
+
+    @Test
+    void poolIsSizedFromCoresAndSpindles() {
+        HikariPoolSizer sizer = new HikariPoolSizer(new MockEnvironment()
+                .withProperty("app.datasource.pool.database-cores", "4"));
+        HikariDataSource pool = pool("primary");
+
+        sizer.postProcessAfterInitialization(pool, "dataSource");
+
+        assertThat(pool.getMaximumPoolSize()).isEqualTo(4 * 2 + 1);
+        assertThat(pool.getMinimumIdle()).isEqualTo(4 * 2 + 1);
+    }
+
+    @Test
+    void connectionsPerCoreAndSpindlesCanBeSet() {
+        HikariPoolSizer sizer = new HikariPoolSizer(new MockEnvironment()
+                .withProperty("app.datasource.pool.database-cores", "8")
+                .withProperty("app.datasource.pool.connections-per-core", "3")
+                .withProperty("app.datasource.pool.effective-spindles", "2"));
+
+        assertThat(sizer.computePoolSize()).isEqualTo(26);
+    }
+
+    @Test
+    void sizeIsAtLeastTwo() {
+        HikariPoolSizer sizer = new HikariPoolSizer(new MockEnvironment()
+                .withProperty("app.datasource.pool.database-cores", "0")
+                .withProperty("app.datasource.pool.effective-spindles", "0"));
+
+        assertThat(sizer.computePoolSize()).isEqualTo(2);
+    }
+
+    @Test
+    void explicitSizesAndDisabledAutoSizingAreLeftAlone() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool.database-cores", "4")
+                .withProperty("app.datasource.replica.hikari.maximum-pool-size", "5");
+        HikariPoolSizer sizer = new HikariPoolSizer(environment);
+        HikariDataSource primary = pool("primary");
+        HikariDataSource replica = pool("replica");
+        replica.setMaximumPoolSize(5);
+
+        sizer.postProcessAfterInitialization(primary, "primaryDataSource");
+        sizer.postProcessAfterInitialization(replica, "replicaDataSource");
+
+        assertThat(primary.getMaximumPoolSize()).isEqualTo(9);
+        assertThat(replica.getMaximumPoolSize()).isEqualTo(5);
+
+        environment.setProperty("app.datasource.pool.auto-size", "false");
+        HikariDataSource unsized = pool("primary");
+        int configured = unsized.getMaximumPoolSize();
+        sizer.postProcessAfterInitialization(unsized, "dataSource");
+        assertThat(unsized.getMaximumPoolSize()).isEqualTo(configured);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName(name);
+        return pool;
+    }
+}
@@ -0,0 +1,48 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadOnlyRoutingDataSourceTests {
+
+    private final ReadOnlyRoutingDataSource routing = new ReadOnlyRoutingDataSource();
+
+    @AfterEach
+    void resetTransactionState() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() throws SQLException {
+        routing.setTargetDataSources(Map.of(
+                ReadOnlyRoutingDataSource.Route.PRIMARY, h2("routing-primary"),
+                ReadOnlyRoutingDataSource.Route.REPLICA, h2("routing-replica")));
+        routing.afterPropertiesSet();
+
+        assertThat(databaseOf(routing)).isEqualToIgnoringCase("routing-primary");
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(databaseOf(routing)).isEqualToIgnoringCase("routing-replica");
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+
+    private static String databaseOf(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog();
+        }
+    }
+}
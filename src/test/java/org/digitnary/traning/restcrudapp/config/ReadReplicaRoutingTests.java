@@ -0,0 +1,83 @@
+package org.digitnary.traning.restcrudapp.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password="})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTests {
+
+    private static final int REPLICA_ONLY_ID = Integer.MAX_VALUE - 1;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    /**
+     * Gives the replica the schema Hibernate created on the primary, but none of the rows.
+     */
+    @BeforeEach
+    void copySchemaToTheReplica() {
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        if (replicaJdbc.queryForObject("SELECT count(*) FROM information_schema.tables " +
+                "WHERE lower(table_name) = 'students'", Integer.class) > 0) {
+            return;
+        }
+        new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(sql -> !sql.startsWith("--") && !sql.startsWith("CREATE USER"))
+                .forEach(replicaJdbc::execute);
+    }
+
+    @Test
+    void writesGoToThePrimaryAndReadOnlyCallsToTheReplica() {
+        Student written = new Student("Primary", "Only", "primary.only@routing.example.com");
+        dao.saveStudent(written);
+
+        assertThat(countStudents(primary, written.getId())).isEqualTo(1);
+        assertThat(countStudents(replica, written.getId())).isZero();
+        assertThat(dao.findStudentsAfter(written.getId() - 1, 10).content()).isEmpty();
+    }
+
+    @Test
+    void replicaReadsDoNotFillTheCache() {
+        new JdbcTemplate(replica).update("INSERT INTO students (id, first_name, last_name, email, version) " +
+                "VALUES (?, 'Replica', 'Only', 'replica.only@routing.example.com', 0)", REPLICA_ONLY_ID);
+        entityManagerFactory.getCache().evict(Student.class, REPLICA_ONLY_ID);
+
+        assertThat(dao.findStudentById(REPLICA_ONLY_ID).getFirstName()).isEqualTo("Replica");
+        assertThat(entityManagerFactory.getCache().contains(Student.class, REPLICA_ONLY_ID)).isFalse();
+
+        // natural-id lookups stay on the primary, which has no such student
+        assertThat(dao.findStudentByEmail("replica.only@routing.example.com")).isNull();
+    }
+
+    private static int countStudents(DataSource dataSource, int id) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT count(*) FROM students WHERE id = ?", Integer.class, id);
+    }
+}
@@ -0,0 +1,115 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkDeleteTests {
+
+    private static final int COURSES = 200;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void deletingInstructorUnlinksCoursesInConstantStatements() {
+        Instructor instructor = new Instructor("Bulk", "Delete", "bulk.delete@example.com",
+                new InstructorDetail("www.youtube.com/bulk-delete", "Cleaning"));
+        List<Course> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            Course course = new Course("Unlinked " + i);
+            instructor.addCourse(course);
+            courses.add(course);
+        }
+        dao.create(instructor);
+
+        SqlStatementCounter.reset();
+        dao.delete(instructor.getId());
+        assertThat(SqlStatementCounter.count()).isLessThanOrEqualTo(4);
+
+        assertThat(dao.findById(instructor.getId())).isNull();
+        assertThat(dao.findDetailById(instructor.getDetail().getId())).isNull();
+        Course survivor = dao.findCourseAndInstructor(courses.get(0).getId());
+        assertThat(survivor).isNotNull();
+        assertThat(survivor.getInstructor()).isNull();
+    }
+
+    @Test
+    void deletingCourseRemovesReviewsAndEnrollments() {
+        Course course = new Course("Doomed");
+        course.addReview(new Review("Gone soon"));
+        course.addStudent(new Student("Enrolled", "Student", "enrolled.doomed@example.com"));
+        dao.saveCourse(course);
+
+        SqlStatementCounter.reset();
+        dao.deleteCourse(course.getId());
+        assertThat(SqlStatementCounter.count()).isEqualTo(3);
+
+        assertThat(dao.findCourseById(course.getId())).isNull();
+        assertThat(dao.findReviewsAfter(course.getId(), 0, 10).content()).isEmpty();
+        Student student = dao.findStudentByEmail("enrolled.doomed@example.com");
+        assertThat(student).isNotNull();
+        assertThat(dao.isEnrolled(student.getId(), course.getId())).isFalse();
+    }
+
+    @Test
+    void deletingStudentRemovesEnrollmentsOnly() {
+        Course course = new Course("Kept");
+        Student student = new Student("Deleted", "Student", "deleted.student@example.com");
+        course.addStudent(student);
+        dao.saveCourse(course);
+
+        SqlStatementCounter.reset();
+        dao.deleteStudentById(student.getId());
+        assertThat(SqlStatementCounter.count()).isEqualTo(2);
+
+        assertThat(dao.findStudentById(student.getId())).isNull();
+        assertThat(dao.findStudentByEmail("deleted.student@example.com")).isNull();
+        assertThat(dao.findCourseById(course.getId())).isNotNull();
+        assertThat(dao.countStudents(course.getId())).isZero();
+    }
+
+    @Test
+    void changesToOtherManagedInstancesSurviveABulkDelete() {
+        Course kept = new Course("Kept while deleting");
+        Course doomed = new Course("Deleted in the same transaction");
+        dao.saveCourse(kept);
+        dao.saveCourse(doomed);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Course managed = em.find(Course.class, kept.getId());
+            managed.setTitle("Renamed before the delete");
+            dao.deleteCourse(doomed.getId());
+            managed.setTitle("Renamed after the delete");
+
+            assertThat(em.contains(managed)).isTrue();
+            assertThat(em.find(Course.class, doomed.getId())).isNull();
+        });
+
+        assertThat(dao.findCourseById(kept.getId()).getTitle()).isEqualTo("Renamed after the delete");
+        assertThat(dao.findCourseById(doomed.getId())).isNull();
+    }
+}
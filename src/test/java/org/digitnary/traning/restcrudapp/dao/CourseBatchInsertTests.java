@@ -0,0 +1,60 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CourseBatchInsertTests {
+
+    private static final int REVIEWS = 1_000;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void savingCourseWithThousandReviewsIsBatched() {
+        // the same save with batching switched off for its session, one insert statement per row
+        SqlStatementCounter.reset();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.unwrap(Session.class).setJdbcBatchSize(1);
+            dao.saveCourse(courseWithReviews("Unbatched 101"));
+        });
+        long unbatchedInserts = SqlStatementCounter.count("insert");
+
+        SqlStatementCounter.reset();
+        dao.saveCourse(courseWithReviews("Batching 101"));
+        long batchedInserts = SqlStatementCounter.count("insert");
+
+        assertThat(unbatchedInserts).isEqualTo(1 + REVIEWS);
+        assertThat(batchedInserts).isLessThanOrEqualTo(1 + REVIEWS / 50);
+        assertThat(unbatchedInserts / batchedInserts).isGreaterThanOrEqualTo(40);
+        assertThat(SqlStatementCounter.count("update")).isZero();
+        assertThat(SqlStatementCounter.count()).isLessThan(50);
+    }
+
+    private static Course courseWithReviews(String title) {
+        Course course = new Course(title);
+        for (int i = 0; i < REVIEWS; i++) {
+            course.addReview(new Review("Review " + i));
+        }
+        return course;
+    }
+}
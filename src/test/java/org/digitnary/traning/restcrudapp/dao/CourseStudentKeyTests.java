@@ -0,0 +1,41 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.support.PostgresTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseStudentKeyTests extends PostgresTestBase {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void keyIsRecreatedWhateverTheExistingOneIsCalled() {
+        String existing = primaryKeyName();
+        jdbcTemplate.execute("ALTER TABLE course_student RENAME CONSTRAINT " + existing + " TO legacy_enrollment_key");
+
+        new ResourceDatabasePopulator(new ClassPathResource("db/008-course-student-key.sql")).execute(dataSource);
+
+        assertThat(primaryKeyName()).isEqualTo("course_student_pkey");
+        assertThat(jdbcTemplate.queryForList("SELECT a.attname FROM pg_constraint c " +
+                "JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey) " +
+                "WHERE c.conrelid = 'course_student'::regclass AND c.contype = 'p' " +
+                "ORDER BY array_position(c.conkey, a.attnum)", String.class))
+                .containsExactly("course_id", "student_id");
+    }
+
+    private String primaryKeyName() {
+        return jdbcTemplate.queryForObject("SELECT conname FROM pg_constraint " +
+                "WHERE conrelid = 'course_student'::regclass AND contype = 'p'", String.class);
+    }
+}
@@ -0,0 +1,86 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveStudents;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void enrollWritesOneRowWithoutLoadingTheCourse() {
+        Course course = new Course("Enrollment");
+        dao.saveCourse(course);
+        List<Student> students = saveStudents(dao, "one", 500);
+        dao.enrollAll(course.getId(), students.stream().mapToInt(Student::getId).toArray());
+        Student student = saveStudents(dao, "late", 1).get(0);
+
+        SqlStatementCounter.reset();
+        assertThat(dao.enroll(student.getId(), course.getId())).isTrue();
+        assertThat(SqlStatementCounter.count("select")).isZero();
+        assertThat(SqlStatementCounter.count("insert")).isEqualTo(1);
+
+        assertThat(dao.enroll(student.getId(), course.getId())).isFalse();
+        assertThat(dao.isEnrolled(student.getId(), course.getId())).isTrue();
+        assertThat(dao.countStudents(course.getId())).isEqualTo(501);
+
+        assertThat(dao.unenroll(student.getId(), course.getId())).isTrue();
+        assertThat(dao.isEnrolled(student.getId(), course.getId())).isFalse();
+    }
+
+    @Test
+    void enrollAllSkipsDuplicatesAndUnknownStudents() {
+        Course course = new Course("Bulk enrollment");
+        dao.saveCourse(course);
+        int[] ids = saveStudents(dao, "bulk", 3).stream().mapToInt(Student::getId).toArray();
+
+        assertThat(dao.enrollAll(course.getId(), new int[]{ids[0], ids[0], ids[1], Integer.MAX_VALUE})).isEqualTo(2);
+        assertThat(dao.enrollAll(course.getId(), ids)).isEqualTo(1);
+        assertThat(dao.findCourseWithItsStudentById(course.getId()).getStudents()).hasSize(3);
+    }
+
+    @Test
+    void loadedCourseIsRefreshedAndStaysManaged() {
+        Course course = new Course("Refreshed");
+        dao.saveCourse(course);
+        Student first = saveStudents(dao, "refresh", 1).get(0);
+        Student second = saveStudents(dao, "refresh-late", 1).get(0);
+        dao.enroll(first.getId(), course.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Course loaded = dao.findCourseWithItsStudentById(course.getId());
+            assertThat(loaded.getStudents()).hasSize(1);
+
+            dao.enroll(second.getId(), course.getId());
+
+            assertThat(em.contains(loaded)).isTrue();
+            assertThat(loaded.getStudents()).extracting(Student::getId)
+                    .containsExactlyInAnyOrder(first.getId(), second.getId());
+            loaded.setTitle("Refreshed and renamed");
+        });
+
+        assertThat(dao.findCourseById(course.getId()).getTitle()).isEqualTo("Refreshed and renamed");
+    }
+}
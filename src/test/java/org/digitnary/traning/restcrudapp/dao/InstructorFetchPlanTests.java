@@ -0,0 +1,76 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InstructorFetchPlanTests {
+
+    private static final int INSTRUCTORS = 1_000;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @BeforeAll
+    void seed() {
+        dao.bulkImportCourses(IntStream.range(0, INSTRUCTORS).mapToObj(i -> {
+            Instructor instructor = new Instructor("First" + i, "Last" + i, "fetch" + i + "@example.com",
+                    new InstructorDetail("www.youtube.com/fetch" + i, "Chess"));
+            Course course = new Course("Course " + i);
+            instructor.addCourse(course);
+            return course;
+        }));
+    }
+
+    @Test
+    void findAllLoadsInstructorsWithoutCourses() {
+        SqlStatementCounter.reset();
+        List<Instructor> instructors = dao.findAll();
+
+        assertThat(instructors).hasSizeGreaterThanOrEqualTo(INSTRUCTORS);
+        assertThat(instructors).noneMatch(i -> Hibernate.isInitialized(i.getCourses()));
+        assertThat(SqlStatementCounter.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void findAllWithCoursesAvoidsNPlusOne() {
+        SqlStatementCounter.reset();
+        List<Instructor> instructors = dao.findAll(FetchPlan.WITH_COURSES);
+
+        assertThat(instructors).hasSizeGreaterThanOrEqualTo(INSTRUCTORS);
+        assertThat(instructors).allMatch(i -> Hibernate.isInitialized(i.getCourses()));
+        assertThat(SqlStatementCounter.count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void findByIdLoadsCoursesOnlyWhenAsked() {
+        int id = dao.findAll().get(0).getId();
+
+        // the instructor may already sit in the second-level cache
+        SqlStatementCounter.reset();
+        Instructor basic = dao.findById(id);
+        assertThat(Hibernate.isInitialized(basic.getCourses())).isFalse();
+        assertThat(SqlStatementCounter.count()).isLessThanOrEqualTo(1);
+
+        SqlStatementCounter.reset();
+        Instructor withCourses = dao.findById(id, FetchPlan.WITH_COURSES);
+        assertThat(withCourses.getCourses()).hasSize(1);
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+}
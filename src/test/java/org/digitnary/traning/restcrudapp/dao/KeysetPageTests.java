@@ -0,0 +1,87 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeysetPageTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Test
+    void continuationTokensRoundTrip() {
+        assertThat(KeysetPage.decode(KeysetPage.encode(42))).isEqualTo(42);
+        assertThat(KeysetPage.decode(KeysetPage.encode(Integer.MAX_VALUE))).isEqualTo(Integer.MAX_VALUE);
+        assertThat(KeysetPage.encode(42)).doesNotContain("42").doesNotContain("=");
+        assertThat(KeysetPage.decode(null)).isZero();
+        assertThat(KeysetPage.decode(" ")).isZero();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        assertThatThrownBy(() -> KeysetPage.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetPage.decode(KeysetPage.encode(1).substring(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetPage.decode("aWQ6YWJj")) // "id:abc"
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void pagesFollowOneAnotherWithOneQueryEach() {
+        Course course = new Course("Paged reviews");
+        dao.saveCourse(course);
+        for (int i = 0; i < 5; i++) {
+            dao.saveReview(course.getId(), new Review("Paged " + i));
+        }
+
+        List<String> comments = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        String token = null;
+        do {
+            SqlStatementCounter.reset();
+            KeysetPage<Review> page = dao.findReviewsAfter(course.getId(), KeysetPage.decode(token), 2);
+            assertThat(SqlStatementCounter.count()).isEqualTo(1);
+            page.content().forEach(review -> comments.add(review.getComment()));
+            token = page.continuationToken();
+            if (token != null) {
+                assertThat(KeysetPage.decode(token)).isEqualTo(page.lastId());
+                tokens.add(token);
+            }
+        } while (token != null);
+
+        assertThat(comments).containsExactly("Paged 0", "Paged 1", "Paged 2", "Paged 3", "Paged 4");
+        assertThat(tokens).hasSize(2);
+    }
+
+    @Test
+    void anEmptyPageKeepsTheCursor() {
+        Course course = new Course("Unreviewed");
+        dao.saveCourse(course);
+
+        KeysetPage<Review> page = dao.findReviewsAfter(course.getId(), 7, 10);
+
+        assertThat(page.content()).isEmpty();
+        assertThat(page.lastId()).isEqualTo(7);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.continuationToken()).isNull();
+    }
+
+    @Test
+    void pageSizesOutsideTheLimitsAreRejected() {
+        assertThatThrownBy(() -> dao.findStudentsAfter(0, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dao.findStudentsAfter(0, 501)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
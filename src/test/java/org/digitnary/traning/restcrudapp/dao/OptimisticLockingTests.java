@@ -0,0 +1,118 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OptimisticLockingTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Test
+    void staleUpdateRaisesConcurrentUpdateException() {
+        Student student = new Student("Grace", "Hopper", "stale@example.com");
+        dao.saveStudent(student);
+        Student first = dao.findStudentById(student.getId());
+        Student second = dao.findStudentById(student.getId());
+
+        first.setLastName("Murray");
+        dao.updateStudent(first);
+
+        second.setFirstName("Amazing Grace");
+        assertThatThrownBy(() -> dao.updateStudent(second))
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasMessageContaining("Student " + student.getId());
+        assertThat(dao.findStudentById(student.getId()).getLastName()).isEqualTo("Murray");
+    }
+
+    @Test
+    void staleInstructorUpdateRaisesConcurrentUpdateException() {
+        Instructor instructor = new Instructor("Ada", "Lovelace", "stale.instructor@example.com",
+                new InstructorDetail("ada-channel", "engines"));
+        dao.create(instructor);
+        Instructor first = dao.findById(instructor.getId());
+        Instructor second = dao.findById(instructor.getId());
+
+        first.setLastName("King");
+        dao.update(first);
+
+        second.setFirstName("Augusta Ada");
+        assertThatThrownBy(() -> dao.update(second))
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasMessageContaining("Instructor " + instructor.getId());
+        assertThat(dao.findById(instructor.getId()).getLastName()).isEqualTo("King");
+    }
+
+    @Test
+    void detailOnlyChangeIncrementsTheInstructorVersion() {
+        Instructor instructor = new Instructor("Edsger", "Dijkstra", "detail.only@example.com",
+                new InstructorDetail("edsger-channel", "shortest paths"));
+        dao.create(instructor);
+        Instructor loaded = dao.findById(instructor.getId());
+        Instructor stale = dao.findById(instructor.getId());
+        int version = loaded.getVersion();
+
+        loaded.getDetail().setHobby("semaphores");
+        dao.update(loaded);
+
+        Instructor reloaded = dao.findById(instructor.getId());
+        assertThat(reloaded.getVersion()).isEqualTo(version + 1);
+        assertThat(reloaded.getDetail().getHobby()).isEqualTo("semaphores");
+
+        // a copy read before the detail change is stale, although none of its own columns changed
+        stale.setLastName("W. Dijkstra");
+        assertThatThrownBy(() -> dao.update(stale)).isInstanceOf(ConcurrentUpdateException.class);
+    }
+
+    @Test
+    void staleCourseUpdateRaisesConcurrentUpdateException() {
+        Course course = new Course("Stale course");
+        dao.saveCourse(course);
+        Course first = dao.findCourseById(course.getId());
+        Course second = dao.findCourseById(course.getId());
+
+        first.setTitle("Fresh course");
+        dao.updateCourse(first);
+
+        second.setTitle("Overwritten course");
+        assertThatThrownBy(() -> dao.updateCourse(second))
+                .isInstanceOf(ConcurrentUpdateException.class)
+                .hasMessageContaining("Course " + course.getId());
+        assertThat(dao.findCourseById(course.getId()).getTitle()).isEqualTo("Fresh course");
+    }
+
+    @Test
+    void updateWithRetryReappliesTheChangeToTheWinningState() {
+        Student student = new Student("Alan", "Turing", "retry@example.com");
+        dao.saveStudent(student);
+        Student concurrent = dao.findStudentById(student.getId());
+        int[] attempts = {0};
+
+        Student updated = dao.updateWithRetry(Student.class, student.getId(), s -> {
+            if (attempts[0]++ == 0) {
+                // another writer commits between this attempt's read and its flush
+                concurrent.setLastName("Mathison Turing");
+                CompletableFuture.runAsync(() -> dao.updateStudent(concurrent)).join();
+            }
+            s.setFirstName("A. M.");
+        }, 3);
+
+        assertThat(attempts[0]).isEqualTo(2);
+        assertThat(updated.getFirstName()).isEqualTo("A. M.");
+        assertThat(updated.getLastName()).isEqualTo("Mathison Turing");
+        assertThat(updated.getVersion()).isEqualTo(2);
+    }
+}
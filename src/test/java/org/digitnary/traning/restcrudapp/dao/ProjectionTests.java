@@ -0,0 +1,84 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import jakarta.persistence.EntityManager;
+import org.digitnary.traning.restcrudapp.dto.CourseSummary;
+import org.digitnary.traning.restcrudapp.dto.InstructorSummary;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveInstructor;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectionTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void summariesCountCoursesAndPageThroughTheGroupBy() {
+        Instructor none = saveInstructor(dao, "none");
+        Instructor two = saveInstructor(dao, "two");
+        Instructor one = saveInstructor(dao, "one");
+        Course first = new Course("First of two");
+        Course second = new Course("Second of two");
+        dao.saveCourse(first, two.getId());
+        dao.saveCourse(second, two.getId());
+        dao.saveCourse(new Course("Only one"), one.getId());
+
+        assertThat(dao.findInstructorSummary(none.getId()))
+                .isEqualTo(new InstructorSummary(none.getId(), "none", "none", "none@instructors.example.com", 0));
+
+        KeysetPage<InstructorSummary> page = dao.findInstructorSummariesAfter(none.getId(), 1);
+        assertThat(page.content()).extracting(InstructorSummary::id, InstructorSummary::courseCount)
+                .containsExactly(tuple(two.getId(), 2L));
+        assertThat(page.hasNext()).isTrue();
+        page = dao.findInstructorSummariesAfter(page.lastId(), 1);
+        assertThat(page.content()).extracting(InstructorSummary::id, InstructorSummary::courseCount)
+                .containsExactly(tuple(one.getId(), 1L));
+
+        assertThat(dao.findCourseSummariesByInstructor(two.getId()))
+                .containsExactly(new CourseSummary(first.getId(), "First of two", two.getId(), "two", "two"),
+                        new CourseSummary(second.getId(), "Second of two", two.getId(), "two", "two"));
+    }
+
+    @Test
+    void courseWithoutInstructorIsListedWithNullNames() {
+        Course orphan = new Course("No instructor");
+        dao.saveCourse(orphan);
+
+        KeysetPage<CourseSummary> page = dao.findCourseSummariesAfter(orphan.getId() - 1, 1);
+
+        assertThat(page.content()).containsExactly(new CourseSummary(orphan.getId(), "No instructor", null, null, null));
+    }
+
+    @Test
+    void projectionsLeaveThePersistenceContextEmpty() {
+        Instructor instructor = saveInstructor(dao, "context");
+        dao.saveCourse(new Course("Not managed"), instructor.getId());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dao.findInstructorSummary(instructor.getId());
+            dao.findInstructorSummariesAfter(0, 10);
+            dao.findCourseSummariesByInstructor(instructor.getId());
+            dao.findCourseSummariesAfter(0, 10);
+
+            assertThat(em.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        });
+    }
+}
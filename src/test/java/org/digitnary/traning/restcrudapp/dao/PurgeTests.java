@@ -0,0 +1,145 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveStudents;
+
+// small chunks, so a purge runs more chunks than the query guard's repeat threshold (FAIL in tests)
+@SpringBootTest(properties = "app.purge.chunk-size=10")
+@ActiveProfiles("test")
+class PurgeTests {
+
+    // courses are backdated to before the cutoff, so courses other tests create stay out of the purge
+    private static final Instant CREATED = Instant.parse("2000-01-01T00:00:00Z");
+    private static final Instant CUTOFF = Instant.parse("2001-01-01T00:00:00Z");
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void purgeRunsManyChunksAndReportsEachOne() {
+        List<Student> students = saveStudents(dao, "many", 75);
+        Course course = new Course("Purged enrollments");
+        dao.saveCourse(course);
+        dao.enrollAll(course.getId(), students.stream().mapToInt(Student::getId).toArray());
+
+        List<PurgeProgress> reports = new ArrayList<>();
+        PurgeProgress result = dao.deleteStudentsWhere("%@many.example.com", 0, reports::add);
+
+        assertThat(result.deleted()).isEqualTo(75);
+        assertThat(result.chunks()).isEqualTo(8);
+        assertThat(result.finished()).isTrue();
+        assertThat(result.lastId()).isEqualTo(students.get(74).getId());
+        assertThat(reports).hasSize(9);
+        assertThat(reports.subList(0, 8)).extracting(PurgeProgress::deleted)
+                .containsExactly(10L, 20L, 30L, 40L, 50L, 60L, 70L, 75L);
+        assertThat(reports.subList(0, 8)).noneMatch(PurgeProgress::finished);
+        assertThat(reports.get(8)).isEqualTo(result);
+        assertThat(dao.findStudentByEmail("many0@many.example.com")).isNull();
+        assertThat(dao.countStudents(course.getId())).isZero();
+    }
+
+    @Test
+    void purgeResumesAfterTheGivenId() {
+        List<Student> students = saveStudents(dao, "resume", 30);
+        int resumeAfter = students.get(11).getId();
+
+        PurgeProgress result = dao.deleteStudentsWhere("%@resume.example.com", resumeAfter, progress -> { });
+
+        assertThat(result.deleted()).isEqualTo(18);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(dao.findStudentByEmail("resume11@resume.example.com")).isNotNull();
+        assertThat(dao.findStudentByEmail("resume12@resume.example.com")).isNull();
+    }
+
+    @Test
+    void nothingToPurgeStillReportsCompletion() {
+        List<PurgeProgress> reports = new ArrayList<>();
+        PurgeProgress result = dao.deleteStudentsWhere("%@nobody.example.com", 0, reports::add);
+
+        assertThat(result).isEqualTo(new PurgeProgress(0, 0, 0, true));
+        assertThat(reports).containsExactly(result);
+    }
+
+    @Test
+    void oldCoursesArePurgedWithTheirReviewsAndEnrollments() {
+        List<Course> old = saveOldCourses("Purged course", 25);
+        Course recent = new Course("Recent course");
+        dao.saveCourse(recent);
+        List<Student> students = saveStudents(dao, "courses", 3);
+        int[] studentIds = students.stream().mapToInt(Student::getId).toArray();
+        dao.enrollAll(old.get(0).getId(), studentIds);
+        dao.enrollAll(recent.getId(), studentIds);
+        dao.saveReview(recent.getId(), new Review("Kept"));
+
+        List<PurgeProgress> reports = new ArrayList<>();
+        PurgeProgress result = dao.deleteCoursesOlderThan(CUTOFF, 0, reports::add);
+
+        assertThat(result.deleted()).isEqualTo(25);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.lastId()).isEqualTo(old.get(24).getId());
+        assertThat(reports).hasSize(4).last().isEqualTo(result);
+        assertThat(count("SELECT count(*) FROM courses WHERE title LIKE 'Purged course %'")).isZero();
+        assertThat(count("SELECT count(*) FROM course_reviews WHERE comment LIKE 'Review of Purged course %'")).isZero();
+        assertThat(count("SELECT count(*) FROM course_student WHERE course_id = ?", old.get(0).getId())).isZero();
+
+        assertThat(dao.countStudents(recent.getId())).isEqualTo(3);
+        assertThat(dao.findReviewsAfter(recent.getId(), 0, 10).content()).hasSize(1);
+        assertThat(dao.findStudentByEmail("courses0@courses.example.com")).isNotNull();
+    }
+
+    @Test
+    void coursePurgeResumesAfterTheGivenId() {
+        List<Course> old = saveOldCourses("Resumed course", 30);
+        int resumeAfter = old.get(11).getId();
+
+        PurgeProgress result = dao.deleteCoursesOlderThan(CUTOFF, resumeAfter, progress -> { });
+
+        assertThat(result.deleted()).isEqualTo(18);
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(count("SELECT count(*) FROM courses WHERE title LIKE 'Resumed course %' AND id <= ?", resumeAfter))
+                .isEqualTo(12);
+        assertThat(count("SELECT count(*) FROM courses WHERE title LIKE 'Resumed course %' AND id > ?", resumeAfter))
+                .isZero();
+        assertThat(count("SELECT count(*) FROM course_reviews WHERE comment LIKE 'Review of Resumed course %'"))
+                .isEqualTo(12);
+
+        // the earlier run's courses are still there, so starting over picks them up
+        assertThat(dao.deleteCoursesOlderThan(CUTOFF, 0, progress -> { }).deleted()).isEqualTo(12);
+    }
+
+    /**
+     * Saves courses with one review each and backdates them to before {@link #CUTOFF}.
+     */
+    private List<Course> saveOldCourses(String title, int count) {
+        List<Course> courses = IntStream.range(0, count).mapToObj(i -> {
+            Course course = new Course(title + " " + i);
+            dao.saveCourse(course);
+            dao.saveReview(course.getId(), new Review("Review of " + title + " " + i));
+            return course;
+        }).toList();
+        jdbcTemplate.update("UPDATE courses SET created_at = ? WHERE title LIKE ?", Timestamp.from(CREATED), title + " %");
+        return courses;
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
@@ -0,0 +1,113 @@
+package org.digitnary.traning.restcrudapp.dao;
+
+import org.digitnary.traning.restcrudapp.dto.CourseHit;
+import org.digitnary.traning.restcrudapp.dto.ReviewHit;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.support.PostgresTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class SearchDaoTests extends PostgresTestBase {
+
+    @Autowired
+    private SearchDao searchDao;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void searchVectorsAreGeneratedColumns() {
+        assertThat(jdbcTemplate.queryForList("SELECT table_name || '.' || column_name FROM information_schema.columns " +
+                "WHERE column_name IN ('title_tsv', 'comment_tsv') AND is_generated = 'ALWAYS'", String.class))
+                .containsExactlyInAnyOrder("courses.title_tsv", "course_reviews.comment_tsv");
+
+        Course course = new Course("Axolotl husbandry");
+        dao.saveCourse(course);
+        Course renamed = dao.findCourseById(course.getId());
+        renamed.setTitle("Capybara husbandry");
+        dao.updateCourse(renamed);
+
+        assertThat(searchDao.searchCourses("axolotl", 0, 10).content()).isEmpty();
+        assertThat(searchDao.searchCourses("capybara", 0, 10).content()).extracting(CourseHit::id)
+                .containsExactly(course.getId());
+    }
+
+    @Test
+    void coursesAreRankedByRelevance() {
+        Course once = saveCourse("Quokka care");
+        Course often = saveCourse("Quokka quokka quokka basics");
+        saveCourse("Kangaroo basics");
+
+        List<CourseHit> hits = searchDao.searchCourses("quokkas", 0, 10).content();
+        assertThat(hits).extracting(CourseHit::id).containsExactly(often.getId(), once.getId());
+        assertThat(hits).isSortedAccordingTo(Comparator.comparing(CourseHit::rank).reversed());
+
+        assertThat(searchDao.searchCourses("\"quokka care\"", 0, 10).content()).extracting(CourseHit::id)
+                .containsExactly(once.getId());
+        assertThat(searchDao.searchCourses("quokka -care", 0, 10).content()).extracting(CourseHit::id)
+                .containsExactly(often.getId());
+        assertThat(searchDao.searchCourses("quokka or kangaroo", 0, 10).content()).hasSize(3);
+    }
+
+    @Test
+    void reviewsCanBeSearchedWithinOneCourse() {
+        Course course = saveCourse("Marsupials");
+        Course other = saveCourse("More marsupials");
+        dao.saveReview(course.getId(), new Review("The wombat section was great"));
+        dao.saveReview(other.getId(), new Review("Needs more wombats"));
+
+        assertThat(searchDao.searchReviews("wombat", null, 0, 10).content()).hasSize(2);
+        assertThat(searchDao.searchReviews("wombat", course.getId(), 0, 10).content())
+                .extracting(ReviewHit::courseId, ReviewHit::comment)
+                .containsExactly(tuple(course.getId(), "The wombat section was great"));
+    }
+
+    @Test
+    void equallyRankedHitsArePagedInIdOrder() {
+        Course course = saveCourse("Numbats");
+        for (int i = 0; i < 5; i++) {
+            dao.saveReview(course.getId(), new Review("Numbat review"));
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        RankedPage<ReviewHit> page = searchDao.searchReviews("numbat", course.getId(), 0, 2);
+        assertThat(page.hasNext()).isTrue();
+        page.content().forEach(hit -> ids.add(hit.id()));
+        page = searchDao.searchReviews("numbat", course.getId(), 1, 2);
+        assertThat(page.hasNext()).isTrue();
+        page.content().forEach(hit -> ids.add(hit.id()));
+        page = searchDao.searchReviews("numbat", course.getId(), 2, 2);
+        assertThat(page.content()).hasSize(1);
+        assertThat(page.hasNext()).isFalse();
+        page.content().forEach(hit -> ids.add(hit.id()));
+
+        assertThat(ids).hasSize(5).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void pagesBeyondTheMaximumResultsAreRejected() {
+        assertThatThrownBy(() -> searchDao.searchCourses("anything", 500, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> searchDao.searchCourses(" ", 0, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Course saveCourse(String title) {
+        Course course = new Course(title);
+        dao.saveCourse(course);
+        return course;
+    }
+}
@@ -0,0 +1,75 @@
+package org.digitnary.traning.restcrudapp.entity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.ManagedEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BytecodeEnhancementTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void entitiesAreEnhanced() {
+        assertThat(new Class<?>[]{Instructor.class, InstructorDetail.class, Course.class, Review.class, Student.class})
+                .allMatch(ManagedEntity.class::isAssignableFrom);
+    }
+
+    @Test
+    void detailLoadsWithoutItsInstructor() {
+        Instructor instructor = new Instructor("Lazy", "Detail", "lazy.detail@example.com",
+                new InstructorDetail("lazy-channel", "hobby"));
+        dao.create(instructor);
+        int detailId = instructor.getDetail().getId();
+        entityManagerFactory.getCache().evictAll();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            SqlStatementCounter.reset();
+            InstructorDetail detail = em.find(InstructorDetail.class, detailId);
+
+            assertThat(Hibernate.isPropertyInitialized(detail, "instructor")).isFalse();
+            assertThat(SqlStatementCounter.count("select")).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void addingAReviewToALoadedCourseLeavesTheReviewsUnloaded() {
+        Course course = new Course("Unloaded reviews");
+        dao.saveCourse(course);
+        dao.saveReview(course.getId(), new Review("Already there"));
+        entityManagerFactory.getCache().evictAll();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Course loaded = em.find(Course.class, course.getId());
+            SqlStatementCounter.reset();
+            loaded.addReview(new Review("Added"));
+            em.flush();
+
+            // the review ID may need a sequence call, so the bag itself is checked rather than the selects
+            assertThat(Hibernate.isInitialized(loaded.getReviews())).isFalse();
+            assertThat(SqlStatementCounter.count("insert")).isEqualTo(1);
+        });
+    }
+}
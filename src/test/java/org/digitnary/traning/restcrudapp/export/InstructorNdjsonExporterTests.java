@@ -0,0 +1,70 @@
+package org.digitnary.traning.restcrudapp.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveInstructor;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class InstructorNdjsonExporterTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private InstructorNdjsonExporter exporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void everyInstructorIsOneLineWithNestedCoursesAndReviews() throws Exception {
+        // created first, so the instructor with courses is the last one exported
+        Instructor withoutCourses = saveInstructor(dao, "empty");
+        Instructor teacher = saveInstructor(dao, "teacher");
+        Course reviewed = new Course("Reviewed");
+        Course unreviewed = new Course("Unreviewed");
+        dao.saveCourse(reviewed, teacher.getId());
+        dao.saveCourse(unreviewed, teacher.getId());
+        dao.saveReview(reviewed.getId(), new Review("First"));
+        dao.saveReview(reviewed.getId(), new Review("Second"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exporter.export(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize((int) exported);
+        Map<Integer, JsonNode> byId = new HashMap<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            byId.put(node.get("id").asInt(), node);
+        }
+
+        JsonNode empty = byId.get(withoutCourses.getId());
+        assertThat(empty.get("email").asText()).isEqualTo("empty@instructors.example.com");
+        assertThat(empty.get("courses")).isEmpty();
+
+        JsonNode courses = byId.get(teacher.getId()).get("courses");
+        assertThat(courses).hasSize(2);
+        assertThat(courses.get(0).get("id").asInt()).isEqualTo(reviewed.getId());
+        assertThat(courses.get(0).get("reviews")).extracting(review -> review.get("comment").asText())
+                .containsExactly("First", "Second");
+        assertThat(courses.get(1).get("title").asText()).isEqualTo("Unreviewed");
+        assertThat(courses.get(1).get("reviews")).isEmpty();
+    }
+}
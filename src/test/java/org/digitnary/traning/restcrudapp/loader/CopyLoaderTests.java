@@ -0,0 +1,173 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.support.PostgresTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveStudents;
+
+class CopyLoaderTests extends PostgresTestBase {
+
+    @Autowired
+    private CopyLoader loader;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void studentsWithExistingEmailsAreRejected() throws IOException {
+        dao.saveStudent(new Student("Taken", "Email", "taken@copy.example.com"));
+
+        LoadResult result = load(LoadTarget.STUDENTS, LoadFormat.CSV, """
+                firstName,lastName,email
+                Ada,Lovelace,ada@copy.example.com
+                Other,Student,taken@copy.example.com
+                No,Email,
+
+                Alan,Turing,alan@copy.example.com
+                """);
+
+        assertThat(result.read()).isEqualTo(4);
+        assertThat(result.malformed()).isEqualTo(1);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(dao.findStudentByEmail("ada@copy.example.com").getLastName()).isEqualTo("Lovelace");
+        assertThat(dao.findStudentByEmail("taken@copy.example.com").getFirstName()).isEqualTo("Taken");
+    }
+
+    @Test
+    void coursesOfUnknownInstructorsAreRejected() throws IOException {
+        Instructor instructor = new Instructor("Copy", "Courses", "copy.courses@example.com",
+                new InstructorDetail("channel", "hobby"));
+        dao.create(instructor);
+
+        LoadResult result = load(LoadTarget.COURSES, LoadFormat.NDJSON, """
+                {"title": "Loaded with instructor", "instructorId": %d}
+                {"title": "Loaded without instructor"}
+                {"title": "Orphan", "instructorId": %d}
+                {"instructorId": %d}
+                {not json
+                """.formatted(instructor.getId(), Integer.MAX_VALUE, instructor.getId()));
+
+        assertThat(result.malformed()).isEqualTo(2);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM courses WHERE instructor_id = ?", String.class,
+                instructor.getId())).containsExactly("Loaded with instructor");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM courses WHERE title = 'Orphan'", Long.class))
+                .isZero();
+    }
+
+    @Test
+    void quotedReviewCommentsMaySpanLines() throws IOException {
+        Course course = new Course("Copy reviews");
+        dao.saveCourse(course);
+
+        LoadResult result = load(LoadTarget.REVIEWS, LoadFormat.CSV, """
+                comment,courseId
+                "First line
+                second line, ""quoted""",%1$d
+                Plain,%1$d
+                Unknown course,%2$d
+                """.formatted(course.getId(), Integer.MAX_VALUE));
+
+        assertThat(result.read()).isEqualTo(3);
+        assertThat(result.malformed()).isZero();
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT comment FROM course_reviews WHERE course_id = ? ORDER BY id",
+                String.class, course.getId())).containsExactly("First line\nsecond line, \"quoted\"", "Plain");
+    }
+
+    @Test
+    void existingAndUnknownEnrollmentsAreSkipped() throws IOException {
+        Course course = new Course("Copy enrollments");
+        dao.saveCourse(course);
+        Student enrolled = new Student("Already", "Enrolled", "enrolled@copy.example.com");
+        Student student = new Student("Newly", "Enrolled", "newly@copy.example.com");
+        dao.saveStudent(enrolled);
+        dao.saveStudent(student);
+        dao.enroll(enrolled.getId(), course.getId());
+
+        LoadResult result = load(LoadTarget.ENROLLMENTS, LoadFormat.CSV, """
+                courseId,studentId
+                %1$d,%2$d
+                %1$d,%3$d
+                %1$d,%3$d
+                %1$d,%4$d
+                %1$d,x
+                """.formatted(course.getId(), enrolled.getId(), student.getId(), Integer.MAX_VALUE));
+
+        assertThat(result.malformed()).isEqualTo(1);
+        assertThat(result.staged()).isEqualTo(4);
+        assertThat(result.inserted()).isEqualTo(1);
+        assertThat(dao.isEnrolled(student.getId(), course.getId())).isTrue();
+        assertThat(dao.countStudents(course.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void loadedIdsNeverOverlapPersistedOnes() throws IOException {
+        saveStudents(dao, "before", 3);
+        String csv = IntStream.range(0, 250)
+                .mapToObj(i -> "Loaded,Student,loaded" + i + "@overlap.example.com")
+                .collect(Collectors.joining("\n", "firstName,lastName,email\n", "\n"));
+
+        LoadResult result = load(LoadTarget.STUDENTS, LoadFormat.CSV, csv);
+        saveStudents(dao, "after", 3);
+
+        // an ID handed out twice would fail the persist or be dropped by the loader's ON CONFLICT
+        assertThat(result.inserted()).isEqualTo(250);
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM students WHERE email LIKE '%@overlap.example.com' " +
+                        "OR email LIKE '%@before.example.com' OR email LIKE '%@after.example.com' ORDER BY id", Integer.class);
+        assertThat(ids).hasSize(256).doesNotHaveDuplicates().allMatch(id -> id > 0);
+    }
+
+    @Test
+    void pooledBlocksNeverReachBelowTheSequenceStart() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE SEQUENCE copy_loader_pooled INCREMENT BY 50");
+            statement.execute("CREATE SEQUENCE copy_loader_pooled_lo INCREMENT BY 50");
+            try (SequenceBlocks pooled = new SequenceBlocks(connection, "copy_loader_pooled", "pooled");
+                 SequenceBlocks pooledLo = new SequenceBlocks(connection, "copy_loader_pooled_lo", "pooled-lo")) {
+                assertThat(pooled.next(1)).containsExactly(1);
+                assertThat(pooled.next(3)).containsExactly(2, 3, 4);
+                assertThat(pooled.next(50)).startsWith(5).endsWith(54).doesNotHaveDuplicates();
+
+                assertThat(pooledLo.next(2)).containsExactly(1, 2);
+                assertThat(pooledLo.next(50)).startsWith(3).endsWith(52).doesNotHaveDuplicates();
+            } finally {
+                statement.execute("DROP SEQUENCE copy_loader_pooled");
+                statement.execute("DROP SEQUENCE copy_loader_pooled_lo");
+            }
+        }
+    }
+
+    private LoadResult load(LoadTarget target, LoadFormat format, String input) throws IOException {
+        return loader.load(target, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,48 @@
+package org.digitnary.traning.restcrudapp.loader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RowEncoderTests {
+
+    @Test
+    void csvColumnsAreMappedByHeaderAndQuotedForCopy() {
+        RowEncoder encoder = RowEncoder.csv(LoadTarget.REVIEWS, "courseId,comment");
+
+        RowEncoder.Encoded encoded = encoder.encode(List.of(
+                "7,\"Great, \"\"hands-on\"\" course\"",
+                "x,Not a course id",
+                "8,"), new int[]{100, 101, 102});
+
+        assertThat(new String(encoded.csv(), StandardCharsets.UTF_8))
+                .isEqualTo("100,\"Great, \"\"hands-on\"\" course\",7\n102,,8\n");
+        assertThat(encoded.rows()).isEqualTo(2);
+        assertThat(encoded.malformed()).isEqualTo(1);
+    }
+
+    @Test
+    void ndjsonRowsWithoutRequiredFieldsAreMalformed() {
+        RowEncoder encoder = RowEncoder.ndjson(LoadTarget.ENROLLMENTS, new ObjectMapper());
+
+        RowEncoder.Encoded encoded = encoder.encode(List.of(
+                "{\"courseId\": 1, \"studentId\": 2}",
+                "{\"courseId\": 1}",
+                "{not json"), null);
+
+        assertThat(new String(encoded.csv(), StandardCharsets.UTF_8)).isEqualTo("1,2\n");
+        assertThat(encoded.malformed()).isEqualTo(2);
+    }
+
+    @Test
+    void csvHeaderMustNameRequiredFields() {
+        assertThatThrownBy(() -> RowEncoder.csv(LoadTarget.STUDENTS, "firstName,lastName"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("email");
+    }
+}
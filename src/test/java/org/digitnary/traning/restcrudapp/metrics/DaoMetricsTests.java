@@ -0,0 +1,85 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DaoMetricsTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void callIsTimedWithItsStatementsEntitiesAndRows() {
+        Course course = new Course("Measured");
+        dao.saveCourse(course);
+        for (int i = 0; i < 3; i++) {
+            Student student = new Student("Measured", "Student", "measured" + i + "@metrics.example.com");
+            dao.saveStudent(student);
+            dao.enroll(student.getId(), course.getId());
+        }
+        long calls = timerCount("findStudentsByCourseAfter", "success");
+        Totals statements = totals("dao.statements", "findStudentsByCourseAfter");
+        Totals entities = totals("dao.entities.loaded", "findStudentsByCourseAfter");
+        Totals rows = totals("dao.rows.returned", "findStudentsByCourseAfter");
+
+        dao.findStudentsByCourseAfter(course.getId(), 0, 10);
+
+        assertThat(timerCount("findStudentsByCourseAfter", "success")).isEqualTo(calls + 1);
+        assertThat(totals("dao.statements", "findStudentsByCourseAfter").minus(statements)).isEqualTo(new Totals(1, 1));
+        assertThat(totals("dao.entities.loaded", "findStudentsByCourseAfter").minus(entities)).isEqualTo(new Totals(1, 3));
+        assertThat(totals("dao.rows.returned", "findStudentsByCourseAfter").minus(rows)).isEqualTo(new Totals(1, 3));
+    }
+
+    @Test
+    void failedCallIsTaggedWithItsException() {
+        long failed = timerCount("updateWithRetry", "IllegalArgumentException");
+
+        assertThatThrownBy(() -> dao.updateWithRetry(Student.class, 1, student -> { }, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(timerCount("updateWithRetry", "IllegalArgumentException")).isEqualTo(failed + 1);
+    }
+
+    @Test
+    void statementsAtCommitCountAgainstTheCall() {
+        Totals before = totals("dao.statements", "saveStudent");
+
+        dao.saveStudent(new Student("Committed", "Student", "committed@metrics.example.com"));
+
+        // the insert runs at flush, after the DAO method returned but inside the measured call
+        assertThat(totals("dao.statements", "saveStudent").minus(before).total()).isPositive();
+    }
+
+    private long timerCount(String method, String outcome) {
+        Timer timer = registry.find("dao.calls").tag("method", method).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private Totals totals(String name, String method) {
+        DistributionSummary summary = registry.find(name).tag("method", method).summary();
+        return summary == null ? new Totals(0, 0) : new Totals(summary.count(), (long) summary.totalAmount());
+    }
+
+    private record Totals(long count, long total) {
+
+        Totals minus(Totals earlier) {
+            return new Totals(count - earlier.count, total - earlier.total);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.digitnary.traning.restcrudapp.metrics;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QueryGuardTests {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Test
+    void shapesIgnoreLiteralsAndInListLength() {
+        assertThat(SqlShapes.normalize("select * from courses where id = 42 and title = 'Java'"))
+                .isEqualTo(SqlShapes.normalize("SELECT *  FROM courses WHERE id = 7 AND title = 'C++'"));
+        assertThat(SqlShapes.normalize("select * from courses where id in (?, ?, ?)"))
+                .isEqualTo("select * from courses where id in (?)");
+    }
+
+    @Test
+    void repeatedSelectShapeFailsTheCall() {
+        DaoCallContext context = DaoCallContext.open("findAll");
+        try {
+            for (int id = 1; id <= 10; id++) {
+                context.statementPrepared("select c.title from courses c where c.instructor_id = " + id);
+            }
+        } finally {
+            context.close();
+        }
+
+        QueryGuard guard = new QueryGuard(QueryGuard.Mode.FAIL, 5, 0);
+        assertThatThrownBy(() -> guard.check(context))
+                .isInstanceOf(QueryGuardException.class)
+                .hasMessageContaining("possible N+1, 10x");
+    }
+
+    @Test
+    void findCourseAndInstructorIsOneQuery() {
+        Instructor instructor = new Instructor("Guard", "Test", "guard@example.com",
+                new InstructorDetail("www.youtube.com/guard", "Testing"));
+        Course course = new Course("Guarded course");
+        instructor.addCourse(course);
+        dao.create(instructor);
+
+        SqlStatementCounter.reset();
+        Course found = dao.findCourseAndInstructor(course.getId());
+
+        assertThat(found.getInstructor().getEmail()).isEqualTo("guard@example.com");
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+        assertThat(SqlStatementCounter.repeatedSelects(0)).hasSize(1);
+    }
+}
@@ -0,0 +1,61 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportingChangesTests {
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void keysAreRecordedOnlyAfterCommit() {
+        ReportingChanges changes = new ReportingChanges(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        changes.courseChanged(1);
+        changes.coursesChanged(List.of(2, 3));
+        changes.instructorChanged(7);
+        assertThat(changes.drainCourses()).isEmpty();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(changes.drainCourses()).containsExactlyInAnyOrder(1, 2, 3);
+        assertThat(changes.drainInstructors()).containsExactly(7);
+        assertThat(changes.drainCourses()).isEmpty();
+    }
+
+    @Test
+    void requeuedKeysAreDrainedAgain() {
+        ReportingChanges changes = new ReportingChanges(true);
+        changes.courseChanged(1);
+        changes.everythingChanged();
+
+        Set<Integer> failed = changes.drainCourses();
+        changes.requeue(failed, Set.of());
+
+        assertThat(changes.drainCourses()).containsExactly(1);
+        assertThat(changes.drainEverything()).isTrue();
+        assertThat(changes.drainEverything()).isFalse();
+    }
+
+    @Test
+    void nothingIsRecordedWhenDisabled() {
+        ReportingChanges changes = new ReportingChanges(false);
+        changes.courseChanged(1);
+        changes.everythingChanged();
+
+        assertThat(changes.drainCourses()).isEmpty();
+        assertThat(changes.drainEverything()).isFalse();
+    }
+}
@@ -0,0 +1,121 @@
+package org.digitnary.traning.restcrudapp.reporting;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.dao.ReportingDao;
+import org.digitnary.traning.restcrudapp.dto.CourseStats;
+import org.digitnary.traning.restcrudapp.dto.InstructorCourseCount;
+import org.digitnary.traning.restcrudapp.entity.Course;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.Review;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.digitnary.traning.restcrudapp.support.PostgresTestBase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.digitnary.traning.restcrudapp.support.TestData.saveInstructor;
+
+class ReportingIntegrationTests extends PostgresTestBase {
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Autowired
+    private ReportingDao reportingDao;
+
+    @Autowired
+    private ReportRefresher refresher;
+
+    @Test
+    void summariesFollowWritesAfterARefresh() {
+        Instructor first = saveInstructor(dao, "first");
+        Instructor second = saveInstructor(dao, "second");
+        Course course = new Course("Reported course");
+        dao.saveCourse(course, first.getId());
+        Course other = new Course("Reported other course");
+        dao.saveCourse(other, first.getId());
+        for (int i = 0; i < 6; i++) {
+            Student student = new Student("Reported", "Student", "reported" + i + "@reporting.example.com");
+            dao.saveStudent(student);
+            dao.enroll(student.getId(), course.getId());
+            if (i < 3) {
+                dao.enroll(student.getId(), other.getId());
+            }
+        }
+        dao.saveReview(course.getId(), new Review("Counted"));
+        dao.saveReview(course.getId(), new Review("Counted too"));
+
+        refresher.refreshChanged();
+
+        CourseStats stats = reportingDao.findCourseStats(course.getId());
+        assertThat(stats.studentCount()).isEqualTo(6);
+        assertThat(stats.reviewCount()).isEqualTo(2);
+        assertThat(stats.instructorId()).isEqualTo(first.getId());
+        assertThat(reportingDao.findCourseStats(other.getId()).studentCount()).isEqualTo(3);
+        // other tests share the summary tables, so only the order of this test's courses is checked,
+        // in a page as large as allowed
+        assertThat(reportingDao.findTopCoursesByStudents(500)).extracting(CourseStats::courseId)
+                .filteredOn(id -> id == course.getId() || id == other.getId())
+                .containsExactly(course.getId(), other.getId());
+        assertThat(courseCount(first)).isEqualTo(2);
+        assertThat(courseCount(second)).isZero();
+
+        Course reassigned = dao.findCourseById(course.getId());
+        reassigned.setInstructor(second);
+        dao.updateCourse(reassigned);
+        dao.deleteCourse(other.getId());
+        refresher.refreshChanged();
+
+        assertThat(reportingDao.findCourseStats(course.getId()).instructorId()).isEqualTo(second.getId());
+        assertThat(reportingDao.findCourseStats(other.getId())).isNull();
+        assertThat(courseCount(first)).isZero();
+        assertThat(courseCount(second)).isEqualTo(1);
+    }
+
+    @Test
+    void movingAReviewRecountsBothCourses() {
+        Course from = new Course("Review moved from");
+        dao.saveCourse(from);
+        Course to = new Course("Review moved to");
+        dao.saveCourse(to);
+        dao.saveReview(from.getId(), new Review("Moved"));
+        refresher.refreshChanged();
+
+        Review review = dao.findReviewsAfter(from.getId(), 0, 1).content().get(0);
+        Course target = dao.findCourseById(to.getId());
+        dao.updateWithRetry(Review.class, review.getId(), moved -> moved.setCourse(target), 1);
+        refresher.refreshChanged();
+
+        assertThat(reportingDao.findCourseStats(from.getId()).reviewCount()).isZero();
+        assertThat(reportingDao.findCourseStats(to.getId()).reviewCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRebuildsAllSucceed() throws Exception {
+        Course course = new Course("Rebuilt course");
+        dao.saveCourse(course);
+
+        try (ExecutorService instances = Executors.newFixedThreadPool(4)) {
+            List<Future<?>> rebuilds = IntStream.range(0, 8)
+                    .<Future<?>>mapToObj(i -> instances.submit(refresher::rebuild))
+                    .toList();
+            for (Future<?> rebuild : rebuilds) {
+                rebuild.get();
+            }
+        }
+
+        assertThat(reportingDao.findCourseStats(course.getId()).studentCount()).isZero();
+    }
+
+    private long courseCount(Instructor instructor) {
+        List<InstructorCourseCount> page = reportingDao.findInstructorCourseCountsAfter(instructor.getId() - 1, 1).content();
+        assertThat(page).extracting(InstructorCourseCount::instructorId).containsExactly(instructor.getId());
+        return page.get(0).courseCount();
+    }
+}
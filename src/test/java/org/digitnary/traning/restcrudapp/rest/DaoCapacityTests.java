@@ -0,0 +1,52 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Student;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// one DAO call at a time, and the shortest wait Hikari accepts
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:capacity;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.threads.virtual.enabled=true",
+        "app.dao.max-concurrency=1",
+        "spring.datasource.hikari.connection-timeout=250"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DaoCapacityTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private InstructorDao dao;
+
+    @Test
+    void requestsFindingNoCapacityAreAnsweredWithServiceUnavailable() {
+        Student student = new Student("Busy", "Student", "busy@capacity.example.com");
+        dao.saveStudent(student);
+        MvcResult[] blocked = new MvcResult[1];
+
+        // the change runs inside a DAO call, which holds the only permit
+        dao.updateWithRetry(Student.class, student.getId(), held -> {
+            try {
+                blocked[0] = mvc.perform(get("/api/instructors/{id}", 1)).andReturn();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+        }, 1);
+
+        assertThat(blocked[0].getResponse().getStatus()).isEqualTo(503);
+        assertThat(blocked[0].getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(blocked[0].getResponse().getContentAsByteArray()).isNotEmpty();
+    }
+}
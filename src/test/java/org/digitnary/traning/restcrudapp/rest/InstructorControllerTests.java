@@ -0,0 +1,109 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class InstructorControllerTests {
+
+    private static final String BODY = """
+            {"firstName": "Ada", "lastName": "Lovelace", "email": "%s",
+             "youtubeChannel": "www.youtube.com/ada", "hobby": "%s"}""";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void conditionalGetAnswersNotModifiedWithOneQuery() throws Exception {
+        String location = create("etag@example.com");
+        String etag = mvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("etag@example.com"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        SqlStatementCounter.reset();
+        mvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(SqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void updatingTheDetailChangesTheETag() throws Exception {
+        String location = create("detail@example.com");
+        String etag = mvc.perform(get(location)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(put(location).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted("detail@example.com", "Poetry")))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hobby").value("Poetry"))
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void putRequiresTheCurrentETag() throws Exception {
+        String location = create("ifmatch@example.com");
+        String etag = mvc.perform(get(location)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(put(location).contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted("ifmatch@example.com", "Chess")))
+                .andExpect(status().isPreconditionRequired());
+        mvc.perform(put(location).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted("ifmatch@example.com", "Chess")))
+                .andExpect(status().isNoContent());
+        // a second client still holding the first tag
+        mvc.perform(put(location).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted("ifmatch@example.com", "Go")))
+                .andExpect(status().isPreconditionFailed());
+
+        mvc.perform(get(location)).andExpect(jsonPath("$.hobby").value("Chess"));
+    }
+
+    @Test
+    void unchangedPutKeepsTheETag() throws Exception {
+        String location = create("noop@example.com");
+        String etag = mvc.perform(get(location)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(put(location).header(HttpHeaders.IF_MATCH, etag).contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted("noop@example.com", "Mathematics")))
+                .andExpect(status().isNoContent());
+
+        mvc.perform(get(location).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void unknownInstructorIsNotFound() throws Exception {
+        mvc.perform(get("/api/instructors/{id}", Integer.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
+    private String create(String email) throws Exception {
+        MvcResult result = mvc.perform(post("/api/instructors").contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY.formatted(email, "Mathematics")))
+                .andExpect(status().isCreated())
+                .andReturn();
+        return result.getResponse().getHeader(HttpHeaders.LOCATION);
+    }
+}
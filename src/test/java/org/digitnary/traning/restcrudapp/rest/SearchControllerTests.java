@@ -0,0 +1,37 @@
+package org.digitnary.traning.restcrudapp.rest;
+
+import org.digitnary.traning.restcrudapp.support.SqlStatementCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// the search statements are PostgreSQL-only, these cover the requests rejected before reaching the database
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SearchControllerTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void blankQueryIsRejectedWithoutQuerying() throws Exception {
+        SqlStatementCounter.reset();
+        mvc.perform(get("/api/search/courses").param("q", " "))
+                .andExpect(status().isBadRequest());
+        assertThat(SqlStatementCounter.count()).isZero();
+    }
+
+    @Test
+    void pagesBeyondMaxResultsAreRejected() throws Exception {
+        mvc.perform(get("/api/search/reviews").param("q", "java").param("page", "50").param("size", "20"))
+                .andExpect(status().isBadRequest());
+    }
+}
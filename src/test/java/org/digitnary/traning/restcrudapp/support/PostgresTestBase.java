@@ -0,0 +1,21 @@
+package org.digitnary.traning.restcrudapp.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base class of the tests that need a real PostgreSQL, for {@code COPY}, full-text search and the
+ * {@code db/} scripts. One container is started for the whole run and shared by every test context;
+ * the tests are skipped when Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("postgres")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresTestBase {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+}
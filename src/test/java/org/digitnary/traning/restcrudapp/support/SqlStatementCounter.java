@@ -0,0 +1,59 @@
+package org.digitnary.traning.restcrudapp.support;
+
+import org.digitnary.traning.restcrudapp.metrics.SqlShapes;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test {@link StatementInspector} that records every SQL statement Hibernate prepares.
+ * A batched statement is prepared once per batch, so each batch counts as one statement.
+ * It is the only statement recorder for tests; the application's own inspector chains to it.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets all statements recorded so far.
+     */
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    /**
+     * @return the number of statements recorded since the last reset
+     */
+    public static int count() {
+        return STATEMENTS.size();
+    }
+
+    /**
+     * Counts the recorded statements starting with the given keyword, e.g. {@code insert}.
+     *
+     * @param keyword the SQL keyword, case-insensitive
+     * @return the number of matching statements
+     */
+    public static long count(String keyword) {
+        String prefix = keyword.toLowerCase();
+        return STATEMENTS.stream().filter(sql -> sql.stripLeading().toLowerCase().startsWith(prefix)).count();
+    }
+
+    /**
+     * Finds the SELECT shapes recorded more than {@code threshold} times since the last reset.
+     *
+     * @param threshold the number of repeats that is still acceptable
+     * @return the N+1 candidate shapes with their counts
+     */
+    public static Map<String, Integer> repeatedSelects(int threshold) {
+        return SqlShapes.repeatedSelects(STATEMENTS, threshold);
+    }
+}
@@ -0,0 +1,43 @@
+package org.digitnary.traning.restcrudapp.support;
+
+import org.digitnary.traning.restcrudapp.dao.InstructorDao;
+import org.digitnary.traning.restcrudapp.entity.Instructor;
+import org.digitnary.traning.restcrudapp.entity.InstructorDetail;
+import org.digitnary.traning.restcrudapp.entity.Student;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Fixtures shared by the DAO tests. Emails are derived from the given prefix or name, which must be
+ * unique among the tests sharing a database, since emails are unique.
+ */
+public final class TestData {
+
+    private TestData() {
+    }
+
+    /**
+     * Saves {@code count} students with the emails {@code <prefix><i>@<prefix>.example.com},
+     * so a test can match all of its students with {@code %@<prefix>.example.com}.
+     *
+     * @return the saved students, in the order they were saved
+     */
+    public static List<Student> saveStudents(InstructorDao dao, String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            Student student = new Student("First" + i, "Last" + i, prefix + i + "@" + prefix + ".example.com");
+            dao.saveStudent(student);
+            return student;
+        }).toList();
+    }
+
+    /**
+     * Saves an instructor named {@code name name}, with the email {@code <name>@instructors.example.com}.
+     */
+    public static Instructor saveInstructor(InstructorDao dao, String name) {
+        Instructor instructor = new Instructor(name, name, name + "@instructors.example.com",
+                new InstructorDetail("www.youtube.com/" + name, "teaching"));
+        dao.create(instructor);
+        return instructor;
+    }
+}